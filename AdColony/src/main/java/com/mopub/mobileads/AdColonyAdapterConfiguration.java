@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.app.Application;
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -72,6 +73,8 @@ public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
 
         synchronized (AdColonyAdapterConfiguration.class) {
@@ -105,9 +108,13 @@ public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
         }
 
         if (networkInitializationSucceeded) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(AdColonyAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(AdColonyAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
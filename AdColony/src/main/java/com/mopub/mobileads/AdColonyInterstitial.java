@@ -58,6 +58,8 @@ public class AdColonyInterstitial extends CustomEventInterstitial {
     private AdColonyInterstitialListener mAdColonyInterstitialListener;
     private final Handler mHandler;
     private com.adcolony.sdk.AdColonyInterstitial mAdColonyInterstitial;
+    // Set while an expiring ad is being replaced, whose result must not be reported as a new load
+    private boolean mIsRefreshingExpiredAd;
     private static String[] previousAdColonyAllZoneIds;
     @NonNull
     private AdColonyAdapterConfiguration mAdColonyAdapterConfiguration;
@@ -162,12 +164,14 @@ public class AdColonyInterstitial extends CustomEventInterstitial {
     protected void showInterstitial() {
         MoPubLog.log(SHOW_ATTEMPTED, ADAPTER_NAME);
         if (mAdColonyInterstitial == null || mAdColonyInterstitial.isExpired()) {
+            final MoPubErrorCode errorCode = mAdColonyInterstitial == null
+                    ? MoPubErrorCode.NETWORK_NO_FILL
+                    : MoPubErrorCode.EXPIRED;
             mHandler.post(new Runnable() {
                 @Override
                 public void run() {
-                    mCustomEventInterstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                    MoPubLog.log(SHOW_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                            MoPubErrorCode.NETWORK_NO_FILL);
+                    mCustomEventInterstitialListener.onInterstitialFailed(errorCode);
+                    MoPubLog.log(SHOW_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
                 }
             });
         } else {
@@ -196,6 +200,13 @@ public class AdColonyInterstitial extends CustomEventInterstitial {
                 @Override
                 public void onRequestFilled(@NonNull com.adcolony.sdk.AdColonyInterstitial adColonyInterstitial) {
                     mAdColonyInterstitial = adColonyInterstitial;
+                    if (mIsRefreshingExpiredAd) {
+                        mIsRefreshingExpiredAd = false;
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Replaced expiring AdColony interstitial " +
+                                "for zone " + adColonyInterstitial.getZoneID());
+                        return;
+                    }
+
                     mHandler.post(new Runnable() {
                         @Override
                         public void run() {
@@ -207,6 +218,14 @@ public class AdColonyInterstitial extends CustomEventInterstitial {
 
                 @Override
                 public void onRequestNotFilled(@NonNull AdColonyZone zone) {
+                    if (mIsRefreshingExpiredAd) {
+                        // The expiring ad is kept, and showing it fails once it has expired
+                        mIsRefreshingExpiredAd = false;
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to replace expiring AdColony " +
+                                "interstitial for zone " + zone.getZoneID());
+                        return;
+                    }
+
                     mHandler.post(new Runnable() {
                         @Override
                         public void run() {
@@ -242,6 +261,7 @@ public class AdColonyInterstitial extends CustomEventInterstitial {
                 @Override
                 public void onExpiring(@NonNull com.adcolony.sdk.AdColonyInterstitial ad) {
                     MoPubLog.log(CUSTOM, ADAPTER_NAME, "AdColony interstitial is expiring; requesting new ad" + ad.getZoneID());
+                    mIsRefreshingExpiredAd = true;
                     AdColony.requestInterstitial(ad.getZoneID(), mAdColonyInterstitialListener);
                 }
 
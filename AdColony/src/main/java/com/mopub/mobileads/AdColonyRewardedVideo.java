@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -37,11 +38,10 @@ import com.mopub.common.privacy.ConsentStatus;
 import com.mopub.common.privacy.PersonalInfoManager;
 import com.mopub.common.util.Json;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.WeakHashMap;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
     /*
@@ -84,13 +84,10 @@ public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
     private String mAdUnitId = "";
     private boolean mIsLoading = false;
 
-    // For waiting and notifying the SDK:
-    private final Handler mHandler;
-    private final ScheduledThreadPoolExecutor mScheduledThreadPoolExecutor;
+    // Fill callbacks from AdColony are delivered to the adapter on the main thread
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
 
     public AdColonyRewardedVideo() {
-        mScheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1);
-        mHandler = new Handler();
         mAdColonyAdapterConfiguration = new AdColonyAdapterConfiguration();
     }
 
@@ -114,7 +111,7 @@ public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
 
     @Override
     protected void onInvalidate() {
-        mScheduledThreadPoolExecutor.shutdownNow();
+        mIsLoading = false;
         AdColonyInterstitial ad = sZoneIdToAdMap.get(mZoneId);
         if (ad != null) {
             ad.destroy();
@@ -230,10 +227,10 @@ public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
 
         sZoneIdToAdMap.put(mZoneId, null);
         setUpAdOptions();
-        mAdColonyListener = new AdColonyListener(mAdColonyAdOptions);
+        mAdColonyListener = new AdColonyListener(this, mAdColonyAdOptions);
         AdColony.setRewardListener(mAdColonyListener);
+        mIsLoading = true;
         AdColony.requestInterstitial(mZoneId, mAdColonyListener, mAdColonyAdOptions);
-        scheduleOnVideoReady();
         MoPubLog.log(mZoneId, LOAD_ATTEMPTED, ADAPTER_NAME);
     }
 
@@ -323,50 +320,48 @@ public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
         return settings != null && settings.isWithResultsDialog();
     }
 
-    private void scheduleOnVideoReady() {
-        Runnable runnable = new Runnable() {
-            @Override
-            public void run() {
-                if (isAdAvailable(mZoneId)) {
-                    mAd = sZoneIdToAdMap.get(mZoneId);
-                    mIsLoading = false;
-                    mScheduledThreadPoolExecutor.shutdownNow();
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (hasVideoAvailable()) {
-                                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
-                                MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(
-                                        AdColonyRewardedVideo.class,
-                                        mZoneId);
-                            } else {
-                                MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
-                                MoPubRewardedVideoManager.onRewardedVideoLoadFailure(
-                                        AdColonyRewardedVideo.class,
-                                        mZoneId,
-                                        MoPubErrorCode.NETWORK_NO_FILL);
-                            }
-                        }
-                    });
-                }
-            }
-        };
+    private void onRequestFilled(@NonNull final AdColonyInterstitial adColonyInterstitial) {
+        if (!TextUtils.equals(mZoneId, adColonyInterstitial.getZoneID())) {
+            return;
+        }
 
+        mAd = adColonyInterstitial;
+
+        // A fill that arrives after the initial load (e.g. a re-request from onExpiring) only
+        // refreshes the cached ad.
         if (!mIsLoading) {
-            mScheduledThreadPoolExecutor.scheduleAtFixedRate(runnable, 1, 1, TimeUnit.SECONDS);
-            mIsLoading = true;
+            return;
+        }
+        mIsLoading = false;
+
+        if (hasVideoAvailable()) {
+            MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+            MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(
+                    AdColonyRewardedVideo.class,
+                    mZoneId);
+        } else {
+            MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+            MoPubRewardedVideoManager.onRewardedVideoLoadFailure(
+                    AdColonyRewardedVideo.class,
+                    mZoneId,
+                    MoPubErrorCode.NETWORK_NO_FILL);
         }
     }
 
-    private boolean isAdAvailable(String zoneId) {
-        return sZoneIdToAdMap.get(zoneId) != null;
+    private void onRequestNotFilled(@NonNull final String zoneId) {
+        if (TextUtils.equals(mZoneId, zoneId)) {
+            mIsLoading = false;
+        }
     }
 
     private static class AdColonyListener extends AdColonyInterstitialListener
             implements AdColonyRewardListener, CustomEventRewardedVideoListener {
         private AdColonyAdOptions mAdOptions;
+        @NonNull
+        private final WeakReference<AdColonyRewardedVideo> mRewardedVideo;
 
-        AdColonyListener(AdColonyAdOptions adOptions) {
+        AdColonyListener(@NonNull AdColonyRewardedVideo rewardedVideo, AdColonyAdOptions adOptions) {
+            mRewardedVideo = new WeakReference<>(rewardedVideo);
             mAdOptions = adOptions;
         }
 
@@ -391,18 +386,38 @@ public class AdColonyRewardedVideo extends CustomEventRewardedVideo {
         }
 
         @Override
-        public void onRequestFilled(@NonNull AdColonyInterstitial adColonyInterstitial) {
-            sZoneIdToAdMap.put(adColonyInterstitial.getZoneID(), adColonyInterstitial);
+        public void onRequestFilled(@NonNull final AdColonyInterstitial adColonyInterstitial) {
+            sMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    sZoneIdToAdMap.put(adColonyInterstitial.getZoneID(), adColonyInterstitial);
+
+                    final AdColonyRewardedVideo rewardedVideo = mRewardedVideo.get();
+                    if (rewardedVideo != null) {
+                        rewardedVideo.onRequestFilled(adColonyInterstitial);
+                    }
+                }
+            });
         }
 
         @Override
-        public void onRequestNotFilled(@NonNull AdColonyZone zone) {
-            MoPubLog.log(CUSTOM, ADAPTER_NAME, "AdColony rewarded ad has no fill");
-            MoPubRewardedVideoManager.onRewardedVideoLoadFailure(
-                    AdColonyRewardedVideo.class,
-                    zone.getZoneID(),
-                    MoPubErrorCode.NETWORK_NO_FILL);
-            MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+        public void onRequestNotFilled(@NonNull final AdColonyZone zone) {
+            sMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    final AdColonyRewardedVideo rewardedVideo = mRewardedVideo.get();
+                    if (rewardedVideo != null) {
+                        rewardedVideo.onRequestNotFilled(zone.getZoneID());
+                    }
+
+                    MoPubLog.log(CUSTOM, ADAPTER_NAME, "AdColony rewarded ad has no fill");
+                    MoPubRewardedVideoManager.onRewardedVideoLoadFailure(
+                            AdColonyRewardedVideo.class,
+                            zone.getZoneID(),
+                            MoPubErrorCode.NETWORK_NO_FILL);
+                    MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                }
+            });
         }
 
         @Override
@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -15,6 +16,7 @@ import com.mopub.mobileads.admob.BuildConfig;
 
 import java.util.Map;
 
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
 public class GooglePlayServicesAdapterConfiguration extends BaseAdapterConfiguration {
@@ -62,6 +64,8 @@ public class GooglePlayServicesAdapterConfiguration extends BaseAdapterConfigura
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
 
         synchronized (GooglePlayServicesAdapterConfiguration.class) {
@@ -88,9 +92,13 @@ public class GooglePlayServicesAdapterConfiguration extends BaseAdapterConfigura
         }
 
         if (networkInitializationSucceeded) {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(GooglePlayServicesAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(GooglePlayServicesAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
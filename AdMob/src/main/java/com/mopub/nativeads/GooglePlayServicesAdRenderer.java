@@ -82,15 +82,41 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
      */
     private static final String ADAPTER_NAME = GooglePlayServicesAdRenderer.class.getSimpleName();
 
+    /**
+     * Pool of ad views inflated ahead of need, if enabled.
+     */
+    @Nullable
+    private GooglePlayServicesAdViewPreInflater mPreInflater;
+
     public GooglePlayServicesAdRenderer(MediaViewBinder viewBinder) {
         this.mViewBinder = viewBinder;
         this.mViewHolderMap = new WeakHashMap<>();
     }
 
+    /**
+     * Inflates up to {@code poolSize} ad views for the given context while the main thread is
+     * idle, so that {@link #createAdView(Context, ViewGroup)} can hand them out without inflating
+     * them when an ad is shown. Pass 0 to turn pre-inflation off. Must be called on the main
+     * thread.
+     */
+    public void setPreInflatedViewCount(@NonNull Context context, int poolSize) {
+        final GooglePlayServicesAdViewPreInflater oldPreInflater = mPreInflater;
+        if (oldPreInflater != null) {
+            oldPreInflater.clear();
+        }
+        mPreInflater = poolSize > 0
+                ? new GooglePlayServicesAdViewPreInflater(context, mViewBinder.layoutId, poolSize)
+                : null;
+    }
+
     @NonNull
     @Override
     public View createAdView(@NonNull Context context, @Nullable ViewGroup parent) {
-        View view = LayoutInflater.from(context).inflate(mViewBinder.layoutId, parent, false);
+        final GooglePlayServicesAdViewPreInflater preInflater = mPreInflater;
+        View view = preInflater != null ? preInflater.poll(context) : null;
+        if (view == null) {
+            view = LayoutInflater.from(context).inflate(mViewBinder.layoutId, parent, false);
+        }
         // Create a frame layout and add the inflated view as a child. This will allow us to add
         // the Google native ad view into the view hierarchy at render time.
         FrameLayout wrappingView = new FrameLayout(context);
@@ -110,10 +136,20 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
             mViewHolderMap.put(view, viewHolder);
         }
 
-        UnifiedNativeAdView unifiedAdView = new UnifiedNativeAdView(view.getContext());
+        // Google views are created on the first bind of a view and reused on later binds, so
+        // recycled views do not allocate or re-parent anything.
+        UnifiedNativeAdView unifiedAdView = viewHolder.mUnifiedAdView;
+        if (unifiedAdView == null) {
+            unifiedAdView = new UnifiedNativeAdView(view.getContext());
+            viewHolder.mUnifiedAdView = unifiedAdView;
+
+            updateUnifiedAdview(nativeAd, viewHolder, unifiedAdView);
+            insertGoogleUnifiedAdView(unifiedAdView, view, nativeAd.shouldSwapMargins());
+        } else {
+            MoPubLog.log(SHOW_ATTEMPTED, ADAPTER_NAME);
 
-        updateUnifiedAdview(nativeAd, viewHolder, unifiedAdView);
-        insertGoogleUnifiedAdView(unifiedAdView, view, nativeAd.shouldSwapMargins());
+            updateUnifiedAdview(nativeAd, viewHolder, unifiedAdView);
+        }
     }
 
     /**
@@ -190,17 +226,29 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
                 staticNativeViewHolder.mTextView, staticNativeAd.getText());
         unifiedAdView.setBodyView(staticNativeViewHolder.mTextView);
         if (staticNativeViewHolder.mMediaView != null) {
-            MediaView mediaview = new MediaView(unifiedAdView.getContext());
-            staticNativeViewHolder.mMediaView.removeAllViews();
-            staticNativeViewHolder.mMediaView.addView(mediaview);
+            MediaView mediaview = staticNativeViewHolder.mGoogleMediaView;
+            if (mediaview == null) {
+                mediaview = new MediaView(unifiedAdView.getContext());
+                staticNativeViewHolder.mGoogleMediaView = mediaview;
+            }
+            if (mediaview.getParent() != staticNativeViewHolder.mMediaView) {
+                staticNativeViewHolder.mMediaView.removeAllViews();
+                staticNativeViewHolder.mMediaView.addView(mediaview);
+            }
             unifiedAdView.setMediaView(mediaview);
 
         }
         NativeRendererHelper.addTextView(staticNativeViewHolder.mCallToActionView,
                 staticNativeAd.getCallToAction());
         unifiedAdView.setCallToActionView(staticNativeViewHolder.mCallToActionView);
-        NativeImageHelper.loadImageView(staticNativeAd.getIconImageUrl(),
-                staticNativeViewHolder.mIconImageView);
+        if (staticNativeAd.getIconImageDrawable() != null
+                && staticNativeViewHolder.mIconImageView != null) {
+            staticNativeViewHolder.mIconImageView.setImageDrawable(
+                    staticNativeAd.getIconImageDrawable());
+        } else {
+            NativeImageHelper.loadImageView(staticNativeAd.getIconImageUrl(),
+                    staticNativeViewHolder.mIconImageView);
+        }
         unifiedAdView.setImageView(staticNativeViewHolder.mIconImageView);
         if (staticNativeAd.getAdvertiser() != null) {
             NativeRendererHelper.addTextView(
@@ -209,9 +257,15 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
         }
         // Add the AdChoices icon to the container if one is provided by the publisher.
         if (staticNativeViewHolder.mAdChoicesIconContainer != null) {
-            AdChoicesView adChoicesView = new AdChoicesView(unifiedAdView.getContext());
-            staticNativeViewHolder.mAdChoicesIconContainer.removeAllViews();
-            staticNativeViewHolder.mAdChoicesIconContainer.addView(adChoicesView);
+            AdChoicesView adChoicesView = staticNativeViewHolder.mAdChoicesView;
+            if (adChoicesView == null) {
+                adChoicesView = new AdChoicesView(unifiedAdView.getContext());
+                staticNativeViewHolder.mAdChoicesView = adChoicesView;
+            }
+            if (adChoicesView.getParent() != staticNativeViewHolder.mAdChoicesIconContainer) {
+                staticNativeViewHolder.mAdChoicesIconContainer.removeAllViews();
+                staticNativeViewHolder.mAdChoicesIconContainer.addView(adChoicesView);
+            }
             unifiedAdView.setAdChoicesView(adChoicesView);
         }
 
@@ -254,8 +308,13 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
         @Nullable
         MediaLayout mMediaView;
 
-        private static final GoogleStaticNativeViewHolder EMPTY_VIEW_HOLDER =
-                new GoogleStaticNativeViewHolder();
+        // Google views reused across binds of this view holder
+        @Nullable
+        UnifiedNativeAdView mUnifiedAdView;
+        @Nullable
+        MediaView mGoogleMediaView;
+        @Nullable
+        AdChoicesView mAdChoicesView;
 
         @NonNull
         public static GoogleStaticNativeViewHolder fromViewBinder(@NonNull View view,
@@ -304,7 +363,8 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
             } catch (ClassCastException exception) {
                 MoPubLog.log(CUSTOM_WITH_THROWABLE, "Could not cast from id in ViewBinder to " +
                         "expected View type", exception);
-                return EMPTY_VIEW_HOLDER;
+                // Not shared between views, since the holder keeps the reused Google views
+                return new GoogleStaticNativeViewHolder();
             }
         }
     }
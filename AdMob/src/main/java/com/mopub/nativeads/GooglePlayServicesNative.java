@@ -1,6 +1,7 @@
 package com.mopub.nativeads;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
 import android.os.Bundle;
 import android.support.annotation.NonNull;
 import android.text.TextUtils;
@@ -142,6 +143,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
         private String mText;
         private String mMainImageUrl;
         private String mIconImageUrl;
+        private Drawable mIconImageDrawable;
         private String mCallToAction;
         private Double mStarRating;
         private String mAdvertiser;
@@ -165,6 +167,11 @@ public class GooglePlayServicesNative extends CustomEventNative {
          */
         private UnifiedNativeAd mUnifiedNativeAd;
 
+        /**
+         * The pending image pre-cache request, cancelled if this ad is destroyed.
+         */
+        private GooglePlayServicesNativeImagePrecacher.Request mPrecacheRequest;
+
         public GooglePlayServicesNativeAd(
                 CustomEventNativeListener customEventNativeListener) {
             this.mCustomEventNativeListener = customEventNativeListener;
@@ -207,6 +214,14 @@ public class GooglePlayServicesNative extends CustomEventNative {
             return mIconImageUrl;
         }
 
+        /**
+         * @return the icon image already decoded by the Google Mobile Ads SDK, or null if the icon
+         * has to be loaded from {@link #getIconImageUrl()}.
+         */
+        public Drawable getIconImageDrawable() {
+            return mIconImageDrawable;
+        }
+
         /**
          * @return the call to action string associated with the native ad.
          */
@@ -270,6 +285,13 @@ public class GooglePlayServicesNative extends CustomEventNative {
             this.mIconImageUrl = iconImageUrl;
         }
 
+        /**
+         * @param iconImageDrawable the decoded icon image to be set.
+         */
+        public void setIconImageDrawable(Drawable iconImageDrawable) {
+            this.mIconImageDrawable = iconImageDrawable;
+        }
+
         /**
          * @param callToAction the call to action string to be set.
          */
@@ -338,15 +360,13 @@ public class GooglePlayServicesNative extends CustomEventNative {
 
             NativeAdOptions.Builder optionsBuilder = new NativeAdOptions.Builder();
 
-            // MoPub requires the images to be pre-cached using their APIs, so we do not want
-            // Google to download the image assets.
-            optionsBuilder.setReturnUrlsForImageAssets(true);
+            // Let Google download and decode the image assets. The decoded images are handed off
+            // to the renderer, so MoPub only pre-caches the images Google did not provide.
+            optionsBuilder.setReturnUrlsForImageAssets(false);
 
             // MoPub allows for only one image, so only request for one image.
             optionsBuilder.setRequestMultipleImages(false);
 
-            optionsBuilder.setReturnUrlsForImageAssets(false);
-
             // Get the preferred image orientation from the local extras.
             if (localExtras.containsKey(KEY_EXTRA_ORIENTATION_PREFERENCE)
                     && isValidOrientationExtra(localExtras.get(KEY_EXTRA_ORIENTATION_PREFERENCE))) {
@@ -385,18 +405,30 @@ public class GooglePlayServicesNative extends CustomEventNative {
                                     mUnifiedNativeAd = unifiedNativeAd;
                                     List<com.google.android.gms.ads.formats.NativeAd.Image> images =
                                             unifiedNativeAd.getImages();
-                                    List<String> imageUrls = new ArrayList<>();
+                                    List<String> mainImageUrls = new ArrayList<>(1);
                                     com.google.android.gms.ads.formats.NativeAd.Image mainImage =
                                             images.get(0);
 
+                                    // The main image is rendered by Google's MediaView, so it
+                                    // only has to be fetched if Google did not decode it.
                                     // Assuming that the URI provided is an URL.
-                                    imageUrls.add(mainImage.getUri().toString());
+                                    if (mainImage.getDrawable() == null) {
+                                        mainImageUrls.add(mainImage.getUri().toString());
+                                    }
 
+                                    List<String> iconUrls = new ArrayList<>(1);
                                     com.google.android.gms.ads.formats.NativeAd.Image iconImage =
                                             unifiedNativeAd.getIcon();
                                     // Assuming that the URI provided is an URL.
-                                    imageUrls.add(iconImage.getUri().toString());
-                                    preCacheImages(context, imageUrls);
+                                    if (iconImage.getDrawable() == null) {
+                                        iconUrls.add(iconImage.getUri().toString());
+                                    }
+
+                                    if (mainImageUrls.isEmpty() && iconUrls.isEmpty()) {
+                                        onImagesReady();
+                                    } else {
+                                        preCacheImages(context, iconUrls, mainImageUrls);
+                                    }
                                 }
                             }).withAdListener(new AdListener() {
                         @Override
@@ -571,6 +603,10 @@ public class GooglePlayServicesNative extends CustomEventNative {
         @Override
         public void destroy() {
             // Called when the ad will never be displayed again.
+            if (mPrecacheRequest != null) {
+                mPrecacheRequest.cancel();
+                mPrecacheRequest = null;
+            }
             if (mUnifiedNativeAd != null) {
                 mUnifiedNativeAd.destroy();
             }
@@ -580,25 +616,24 @@ public class GooglePlayServicesNative extends CustomEventNative {
          * This method will try to cache images and send success/failure callbacks based on
          * whether or not the image caching succeeded.
          *
-         * @param context   required to pre-cache images.
-         * @param imageUrls the urls of images that need to be cached.
+         * @param context       required to pre-cache images.
+         * @param iconUrls      the urls of icon images that need to be cached.
+         * @param mainImageUrls the urls of main images that need to be cached.
          */
-        private void preCacheImages(Context context, List<String> imageUrls) {
-            NativeImageHelper.preCacheImages(context, imageUrls,
+        private void preCacheImages(Context context, List<String> iconUrls,
+                                    List<String> mainImageUrls) {
+            mPrecacheRequest = GooglePlayServicesNativeImagePrecacher.getInstance().preCacheImages(
+                    context, iconUrls, mainImageUrls,
                     new NativeImageHelper.ImageListener() {
                         @Override
                         public void onImagesCached() {
-                            if (mUnifiedNativeAd != null) {
-                                prepareUnifiedNativeAd(mUnifiedNativeAd);
-                                mCustomEventNativeListener.onNativeAdLoaded(
-                                        GooglePlayServicesNativeAd.this);
-
-                                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
-                            }
+                            mPrecacheRequest = null;
+                            onImagesReady();
                         }
 
                         @Override
                         public void onImagesFailedToCache(NativeErrorCode errorCode) {
+                            mPrecacheRequest = null;
                             mCustomEventNativeListener.onNativeAdFailed(errorCode);
 
                             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
@@ -608,6 +643,19 @@ public class GooglePlayServicesNative extends CustomEventNative {
                     });
         }
 
+        /**
+         * Maps the loaded ad and notifies the listener once all images are available, either
+         * decoded by Google or pre-cached by MoPub.
+         */
+        private void onImagesReady() {
+            if (mUnifiedNativeAd != null) {
+                prepareUnifiedNativeAd(mUnifiedNativeAd);
+                mCustomEventNativeListener.onNativeAdLoaded(GooglePlayServicesNativeAd.this);
+
+                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+            }
+        }
+
         /**
          * This method will map the Google native ad loaded to this
          * {@link GooglePlayServicesNativeAd}.
@@ -621,6 +669,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
 
             com.google.android.gms.ads.formats.NativeAd.Image icon = unifiedNativeAd.getIcon();
             setIconImageUrl(icon.getUri().toString());
+            setIconImageDrawable(icon.getDrawable());
             setCallToAction(unifiedNativeAd.getCallToAction());
             setTitle(unifiedNativeAd.getHeadline());
 
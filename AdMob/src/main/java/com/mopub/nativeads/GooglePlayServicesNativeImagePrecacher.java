@@ -0,0 +1,263 @@
+package com.mopub.nativeads;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pre-caches the images of Google native ads through {@link NativeImageHelper}. Concurrent requests
+ * for the same URL share a single fetch, at most {@link #MAX_CONCURRENT_FETCHES} URLs are fetched
+ * at a time, and icons are fetched before main images. A request can be cancelled when its ad is
+ * destroyed, which drops any of its URLs that no other ad is waiting for.
+ * <p>
+ * Images are fetched and decoded by MoPub's image loader, which downsamples them to the screen
+ * width and caches them under that size. The renderers load images through the same loader, so
+ * decoding them at any other size here would miss its cache.
+ * <p>
+ * May be called from any thread. Requests are processed on the main thread, where the image loader
+ * must be used and where listeners are notified.
+ */
+class GooglePlayServicesNativeImagePrecacher {
+    private static final int MAX_CONCURRENT_FETCHES = 4;
+
+    @NonNull
+    private static final GooglePlayServicesNativeImagePrecacher sInstance =
+            new GooglePlayServicesNativeImagePrecacher();
+
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Map<String, UrlFetch> mFetches = new HashMap<>();
+    @NonNull
+    private final ArrayDeque<UrlFetch> mIconQueue = new ArrayDeque<>();
+    @NonNull
+    private final ArrayDeque<UrlFetch> mMainImageQueue = new ArrayDeque<>();
+    private int mActiveFetchCount;
+
+    @NonNull
+    static GooglePlayServicesNativeImagePrecacher getInstance() {
+        return sInstance;
+    }
+
+    private GooglePlayServicesNativeImagePrecacher() {
+    }
+
+    /**
+     * Pre-caches the given images and notifies the listener once all of them are cached or as
+     * soon as one of them fails.
+     *
+     * @return a request that can be cancelled if the ad is destroyed before it completes.
+     */
+    @NonNull
+    Request preCacheImages(@NonNull final Context context,
+                           @NonNull final List<String> iconUrls,
+                           @NonNull final List<String> mainImageUrls,
+                           @NonNull final NativeImageHelper.ImageListener listener) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(iconUrls);
+        Preconditions.checkNotNull(mainImageUrls);
+        Preconditions.checkNotNull(listener);
+
+        final Request request = new Request(listener);
+        final Context applicationContext = context.getApplicationContext();
+        final List<String> iconUrlsCopy = new ArrayList<>(iconUrls);
+        final List<String> mainImageUrlsCopy = new ArrayList<>(mainImageUrls);
+
+        runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                if (request.mIsDone) {
+                    // Cancelled before it was processed
+                    return;
+                }
+
+                for (final String url : iconUrlsCopy) {
+                    enqueue(applicationContext, url, true, request);
+                }
+                for (final String url : mainImageUrlsCopy) {
+                    enqueue(applicationContext, url, false, request);
+                }
+
+                if (request.mRemainingUrls.isEmpty()) {
+                    // Post so that callers always get the result after this method returns
+                    mMainHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            request.finish(null);
+                        }
+                    });
+                }
+
+                drain();
+            }
+        });
+        return request;
+    }
+
+    private void runOnMainThread(@NonNull final Runnable runnable) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            runnable.run();
+        } else {
+            mMainHandler.post(runnable);
+        }
+    }
+
+    private void enqueue(@NonNull final Context context, @Nullable final String url,
+                         final boolean isIcon, @NonNull final Request request) {
+        if (url == null || !request.mRemainingUrls.add(url)) {
+            return;
+        }
+
+        UrlFetch fetch = mFetches.get(url);
+        if (fetch == null) {
+            fetch = new UrlFetch(context, url, isIcon);
+            mFetches.put(url, fetch);
+            (isIcon ? mIconQueue : mMainImageQueue).offer(fetch);
+        } else if (isIcon && !fetch.mIsIcon && !fetch.mIsStarted) {
+            // Already queued as a main image, promote it
+            mMainImageQueue.remove(fetch);
+            fetch.mIsIcon = true;
+            mIconQueue.offer(fetch);
+        }
+        fetch.mWaiters.add(request);
+    }
+
+    private void drain() {
+        while (mActiveFetchCount < MAX_CONCURRENT_FETCHES) {
+            UrlFetch fetch = mIconQueue.poll();
+            if (fetch == null) {
+                fetch = mMainImageQueue.poll();
+            }
+            if (fetch == null) {
+                return;
+            }
+            start(fetch);
+        }
+    }
+
+    private void start(@NonNull final UrlFetch fetch) {
+        fetch.mIsStarted = true;
+        mActiveFetchCount++;
+
+        NativeImageHelper.preCacheImages(fetch.mContext, Collections.singletonList(fetch.mUrl),
+                new NativeImageHelper.ImageListener() {
+                    @Override
+                    public void onImagesCached() {
+                        complete(fetch, null);
+                    }
+
+                    @Override
+                    public void onImagesFailedToCache(final NativeErrorCode errorCode) {
+                        complete(fetch, errorCode);
+                    }
+                });
+    }
+
+    private void complete(@NonNull final UrlFetch fetch,
+                          @Nullable final NativeErrorCode errorCode) {
+        mActiveFetchCount--;
+        mFetches.remove(fetch.mUrl);
+
+        for (final Request request : new ArrayList<>(fetch.mWaiters)) {
+            if (errorCode != null) {
+                request.finish(errorCode);
+            } else if (request.mRemainingUrls.remove(fetch.mUrl)
+                    && request.mRemainingUrls.isEmpty()) {
+                request.finish(null);
+            }
+        }
+
+        drain();
+    }
+
+    private void cancel(@NonNull final Request request) {
+        for (final String url : request.mRemainingUrls) {
+            final UrlFetch fetch = mFetches.get(url);
+            if (fetch == null) {
+                continue;
+            }
+
+            fetch.mWaiters.remove(request);
+            if (fetch.mWaiters.isEmpty() && !fetch.mIsStarted) {
+                mFetches.remove(url);
+                (fetch.mIsIcon ? mIconQueue : mMainImageQueue).remove(fetch);
+            }
+        }
+        request.mRemainingUrls.clear();
+    }
+
+    /**
+     * Pending pre-cache request for the images of a single ad.
+     */
+    final class Request {
+        @NonNull
+        private final NativeImageHelper.ImageListener mListener;
+        @NonNull
+        private final Set<String> mRemainingUrls = new HashSet<>(2);
+        private boolean mIsDone;
+
+        private Request(@NonNull final NativeImageHelper.ImageListener listener) {
+            mListener = listener;
+        }
+
+        /**
+         * Stops waiting for the images. The listener is not notified afterwards.
+         */
+        void cancel() {
+            runOnMainThread(new Runnable() {
+                @Override
+                public void run() {
+                    if (mIsDone) {
+                        return;
+                    }
+                    mIsDone = true;
+                    GooglePlayServicesNativeImagePrecacher.this.cancel(Request.this);
+                }
+            });
+        }
+
+        private void finish(@Nullable final NativeErrorCode errorCode) {
+            if (mIsDone) {
+                return;
+            }
+            mIsDone = true;
+
+            if (errorCode != null) {
+                GooglePlayServicesNativeImagePrecacher.this.cancel(this);
+                mListener.onImagesFailedToCache(errorCode);
+            } else {
+                mListener.onImagesCached();
+            }
+        }
+    }
+
+    private static class UrlFetch {
+        @NonNull
+        final Context mContext;
+        @NonNull
+        final String mUrl;
+        @NonNull
+        final List<Request> mWaiters = new ArrayList<>(2);
+        boolean mIsIcon;
+        boolean mIsStarted;
+
+        UrlFetch(@NonNull final Context context, @NonNull final String url, final boolean isIcon) {
+            mContext = context;
+            mUrl = url;
+            mIsIcon = isIcon;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.mopub.common.Preconditions;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the expiration of every loaded AppLovin ad in a single priority queue ordered by the next
+ * deadline. One main-thread callback is posted for the earliest deadline instead of one timer per
+ * ad. AppLovin does not expose the lifetime of its ads, so every format uses the same time-to-live.
+ * Tracked ads are notified shortly before they expire so that a replacement can be loaded in the
+ * background.
+ */
+final class AppLovinAdExpirationManager {
+    private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long REFRESH_LEAD_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final AppLovinAdExpirationManager sInstance = new AppLovinAdExpirationManager();
+
+    @NonNull
+    private final PriorityQueue<Expiration> mQueue = new PriorityQueue<>();
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Runnable mSweep = new Runnable() {
+        @Override
+        public void run() {
+            sweep();
+        }
+    };
+    // Elapsed realtime at which mSweep is due, or 0 if it is not posted
+    private long mScheduledSweepMillis;
+
+    @NonNull
+    static AppLovinAdExpirationManager getInstance() {
+        return sInstance;
+    }
+
+    private AppLovinAdExpirationManager() {
+    }
+
+    /**
+     * Starts tracking an ad that was just loaded. The listener is called on the main thread.
+     *
+     * @return a handle that must be cancelled once the ad is shown or discarded.
+     */
+    @NonNull
+    Expiration track(@NonNull final Listener listener) {
+        Preconditions.checkNotNull(listener);
+
+        final Expiration expiration =
+                new Expiration(listener, SystemClock.elapsedRealtime() + TTL_MILLIS);
+        expiration.mNextEventMillis = expiration.mExpirationMillis - REFRESH_LEAD_MILLIS;
+
+        synchronized (this) {
+            mQueue.offer(expiration);
+            scheduleSweep();
+        }
+        return expiration;
+    }
+
+    private synchronized void scheduleSweep() {
+        final Expiration head = mQueue.peek();
+        if (head == null) {
+            mMainHandler.removeCallbacks(mSweep);
+            mScheduledSweepMillis = 0;
+            return;
+        }
+
+        if (mScheduledSweepMillis != 0 && mScheduledSweepMillis <= head.mNextEventMillis) {
+            return;
+        }
+        mMainHandler.removeCallbacks(mSweep);
+        mMainHandler.postDelayed(mSweep,
+                Math.max(0, head.mNextEventMillis - SystemClock.elapsedRealtime()));
+        mScheduledSweepMillis = head.mNextEventMillis;
+    }
+
+    private void sweep() {
+        while (true) {
+            final Expiration expiration;
+            final boolean isExpired;
+            synchronized (this) {
+                mScheduledSweepMillis = 0;
+                final Expiration head = mQueue.peek();
+                if (head == null || head.mNextEventMillis > SystemClock.elapsedRealtime()) {
+                    scheduleSweep();
+                    return;
+                }
+
+                expiration = mQueue.poll();
+                if (expiration.mIsCancelled) {
+                    continue;
+                }
+
+                isExpired = expiration.mNextEventMillis >= expiration.mExpirationMillis;
+                if (isExpired) {
+                    expiration.mIsCancelled = true;
+                } else {
+                    expiration.mNextEventMillis = expiration.mExpirationMillis;
+                    mQueue.offer(expiration);
+                }
+            }
+
+            if (isExpired) {
+                expiration.mListener.onAdExpired();
+            } else {
+                expiration.mListener.onAdExpiring();
+            }
+        }
+    }
+
+    interface Listener {
+        /**
+         * Called shortly before the ad expires. The ad can still be shown.
+         */
+        void onAdExpiring();
+
+        /**
+         * Called once the ad has expired. It must be discarded.
+         */
+        void onAdExpired();
+    }
+
+    /**
+     * Handle to an ad tracked by the {@link AppLovinAdExpirationManager}.
+     */
+    final class Expiration implements Comparable<Expiration> {
+        @NonNull
+        private final Listener mListener;
+        private final long mExpirationMillis;
+        private long mNextEventMillis;
+        private boolean mIsCancelled;
+
+        private Expiration(@NonNull final Listener listener, final long expirationMillis) {
+            mListener = listener;
+            mExpirationMillis = expirationMillis;
+        }
+
+        /**
+         * @return whether the ad has expired, even if the manager has not evicted it yet.
+         */
+        boolean isExpired() {
+            return SystemClock.elapsedRealtime() >= mExpirationMillis;
+        }
+
+        /**
+         * Stops tracking the ad. Safe to call more than once.
+         */
+        void cancel() {
+            synchronized (AppLovinAdExpirationManager.this) {
+                if (!mIsCancelled) {
+                    mIsCancelled = true;
+                    mQueue.remove(this);
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(@NonNull final Expiration other) {
+            return mNextEventMillis < other.mNextEventMillis ? -1
+                    : (mNextEventMillis == other.mNextEventMillis ? 0 : 1);
+        }
+    }
+}
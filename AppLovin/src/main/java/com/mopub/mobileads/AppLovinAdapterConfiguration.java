@@ -3,7 +3,9 @@ package com.mopub.mobileads;
 import android.content.Context;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageManager;
+import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -17,7 +19,13 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.applovin.BuildConfig;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 
 public class AppLovinAdapterConfiguration extends BaseAdapterConfiguration {
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
@@ -28,9 +36,17 @@ public class AppLovinAdapterConfiguration extends BaseAdapterConfiguration {
 
     static final String APPLOVIN_PLUGIN_VERSION = "MoPub-" + ADAPTER_VERSION;
 
+    // AppLovin does not document how long a bid token stays valid, so prefetched tokens are used
+    // for a single auction and discarded if they are not used within a minute
+    private static final long BID_TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     @Nullable
     private static AppLovinSdk sdk;
 
+    private static final AtomicReference<String> tokenReference = new AtomicReference<>(null);
+    private static final AtomicBoolean isComputingToken = new AtomicBoolean(false);
+    private static volatile long tokenExpirationTimeMillis;
+
     @NonNull
     @Override
     public String getMoPubNetworkName() {
@@ -54,14 +70,44 @@ public class AppLovinAdapterConfiguration extends BaseAdapterConfiguration {
     public String getBiddingToken(@NonNull Context context) {
         Preconditions.checkNotNull(context);
 
+        final String prefetchedToken = tokenReference.getAndSet(null);
+        final boolean isPrefetchedTokenFresh = prefetchedToken != null
+                && SystemClock.elapsedRealtime() < tokenExpirationTimeMillis;
+        refreshBidToken();
+
+        if (isPrefetchedTokenFresh) {
+            return prefetchedToken;
+        }
+        // Nothing prefetched yet, so fall back to generating the token on the caller's thread
         return (sdk != null) ? sdk.getAdService().getBidToken() : null;
     }
 
+    /**
+     * Only the SDK key is needed to initialize AppLovin, so it is also persisted in a compact
+     * snapshot that is much cheaper to read back than the SharedPreferences file.
+     */
+    @Override
+    public void setCachedInitializationParameters(@NonNull Context context,
+                                                  @Nullable Map<String, String> configuration) {
+        Preconditions.checkNotNull(context);
+
+        super.setCachedInitializationParameters(context, configuration);
+
+        final String sdkKey = configuration != null ?
+                configuration.get(CONFIG_KEY_APPLOVIN_SDK_KEY) : null;
+        if (!TextUtils.isEmpty(sdkKey)) {
+            AppLovinInitializationSnapshot.update(context,
+                    Collections.singletonMap(CONFIG_KEY_APPLOVIN_SDK_KEY, sdkKey));
+        }
+    }
+
     @Override
     public void initializeNetwork(@NonNull Context context, @Nullable Map<String, String> configuration, @NonNull OnNetworkInitializationFinishedListener listener) {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         // Check if an SDK key is provided in the `configuration` map
         sdk = getSdkFromConfiguration(configuration, context);
         if (sdk != null) {
@@ -73,18 +119,63 @@ public class AppLovinAdapterConfiguration extends BaseAdapterConfiguration {
 
             sdk.getSettings().setVerboseLogging(verboseLoggingEnabled);
 
+            refreshBidToken();
+
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(AppLovinAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(AppLovinAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
     }
 
+    /**
+     * Prefetches the token of the next auction on the shared AsyncTask pool if there is no fresh
+     * one, so that building the auction request does not wait on the AppLovin SDK.
+     */
+    private static void refreshBidToken() {
+        final AppLovinSdk currentSdk = sdk;
+        if (currentSdk == null) {
+            return;
+        }
+
+        if (tokenReference.get() != null
+                && SystemClock.elapsedRealtime() < tokenExpirationTimeMillis) {
+            return;
+        }
+
+        if (isComputingToken.compareAndSet(false, true)) {
+            AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        final String token = currentSdk.getAdService().getBidToken();
+                        if (!TextUtils.isEmpty(token)) {
+                            tokenReference.set(token);
+                            tokenExpirationTimeMillis = SystemClock.elapsedRealtime()
+                                    + BID_TOKEN_TTL_MILLIS;
+                        }
+                    } finally {
+                        isComputingToken.set(false);
+                    }
+                }
+            });
+        }
+    }
+
     @Nullable
     private AppLovinSdk getSdkFromConfiguration(@Nullable Map<String, String> configuration, @NonNull Context context) {
-        // If there is a configuration cached with SDK key already from any of the custom events, use that instead
-        final Map<String, String> cachedConfiguration = getCachedInitializationParameters(context);
+        // If there is a configuration cached with SDK key already from any of the custom events, use that instead.
+        // The snapshot read is waited for. Installs that cached the key before the snapshot existed
+        // only have it in the base cache.
+        Map<String, String> cachedConfiguration = AppLovinInitializationSnapshot.get(context);
+        if (!cachedConfiguration.containsKey(CONFIG_KEY_APPLOVIN_SDK_KEY)) {
+            cachedConfiguration = getCachedInitializationParameters(context);
+        }
         final Map<String, String> configurationToUse = cachedConfiguration.containsKey(CONFIG_KEY_APPLOVIN_SDK_KEY) ? cachedConfiguration : configuration;
 
         final String key = (configurationToUse != null) ? configurationToUse.get(CONFIG_KEY_APPLOVIN_SDK_KEY) : "";
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.text.TextUtils;
 
@@ -37,8 +35,6 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 
 public class AppLovinBanner extends CustomEventBanner {
 
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
-
     private static final int BANNER_STANDARD_HEIGHT = 50;
     private static final int BANNER_HEIGHT_OFFSET_TOLERANCE = 10;
     private static final int LEADER_STANDARD_HEIGHT = 90;
@@ -314,10 +310,6 @@ public class AppLovinBanner extends CustomEventBanner {
      * Performs the given runnable on the main thread.
      */
     private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
+        AppLovinMainThreadDispatcher.dispatch(runnable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.applovin.adview.AppLovinIncentivizedInterstitial;
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinSdk;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * {@link AppLovinIncentivizedInterstitial}s shared by all instances of
+ * {@link AppLovinRewardedVideo}, at most {@link #INTERSTITIALS_PER_ZONE} per zone. While one of
+ * them is showing, the next one of the zone is preloaded so that a rewarded video requested right
+ * after can be served without waiting. Each zone is guarded by its own lock.
+ */
+class AppLovinIncentivizedInterstitialPool {
+    private static final String ADAPTER_NAME = AppLovinIncentivizedInterstitialPool.class.getSimpleName();
+
+    private static final int INTERSTITIALS_PER_ZONE = 2;
+
+    private static final AppLovinIncentivizedInterstitialPool sInstance =
+            new AppLovinIncentivizedInterstitialPool();
+
+    @NonNull
+    private final ConcurrentHashMap<String, ZonePool> mZonePools = new ConcurrentHashMap<>();
+
+    @NonNull
+    static AppLovinIncentivizedInterstitialPool getInstance() {
+        return sInstance;
+    }
+
+    private AppLovinIncentivizedInterstitialPool() {
+    }
+
+    /**
+     * @return an interstitial of the zone with a preloaded ad if there is one, otherwise the one
+     * that was preloaded last, which is created if needed.
+     */
+    @NonNull
+    AppLovinIncentivizedInterstitial acquire(@NonNull final String zoneId,
+                                             @NonNull final Activity activity,
+                                             @NonNull final AppLovinSdk sdk) {
+        Preconditions.checkNotNull(zoneId);
+        Preconditions.checkNotNull(activity);
+        Preconditions.checkNotNull(sdk);
+
+        return getOrCreateZonePool(zoneId).acquire(zoneId, activity, sdk);
+    }
+
+    /**
+     * @return whether the zone has an interstitial with a preloaded ad. Does not allocate.
+     */
+    boolean isReady(@NonNull final String zoneId) {
+        Preconditions.checkNotNull(zoneId);
+
+        final ZonePool zonePool = mZonePools.get(zoneId);
+        return zonePool != null && zonePool.isReady();
+    }
+
+    /**
+     * Preloads another interstitial of the zone while {@code showing} is being shown.
+     */
+    void preloadAhead(@NonNull final String zoneId,
+                      @NonNull final AppLovinIncentivizedInterstitial showing,
+                      @NonNull final Activity activity,
+                      @NonNull final AppLovinSdk sdk) {
+        Preconditions.checkNotNull(zoneId);
+        Preconditions.checkNotNull(showing);
+        Preconditions.checkNotNull(activity);
+        Preconditions.checkNotNull(sdk);
+
+        final AppLovinIncentivizedInterstitial next =
+                getOrCreateZonePool(zoneId).getNext(zoneId, showing, activity, sdk);
+        if (next == null || next.isAdReadyToDisplay()) {
+            return;
+        }
+
+        next.preload(new AppLovinAdLoadListener() {
+            @Override
+            public void adReceived(final AppLovinAd ad) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Preloaded next rewarded video for zone: {" +
+                        zoneId + "}");
+            }
+
+            @Override
+            public void failedToReceiveAd(final int errorCode) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Failed to preload next rewarded video for " +
+                        "zone: {" + zoneId + "} with error: " + errorCode);
+            }
+        });
+    }
+
+    @NonNull
+    private ZonePool getOrCreateZonePool(@NonNull final String zoneId) {
+        ZonePool zonePool = mZonePools.get(zoneId);
+        if (zonePool == null) {
+            final ZonePool newZonePool = new ZonePool();
+            zonePool = mZonePools.putIfAbsent(zoneId, newZonePool);
+            if (zonePool == null) {
+                zonePool = newZonePool;
+            }
+        }
+        return zonePool;
+    }
+
+    @NonNull
+    private static AppLovinIncentivizedInterstitial create(@NonNull final String zoneId,
+                                                           @NonNull final Activity activity,
+                                                           @NonNull final AppLovinSdk sdk) {
+        // If this is a default or token Zone, create the incentivized ad normally
+        if (AppLovinRewardedVideo.DEFAULT_ZONE.equals(zoneId)
+                || AppLovinRewardedVideo.DEFAULT_TOKEN_ZONE.equals(zoneId)) {
+            return AppLovinIncentivizedInterstitial.create(activity);
+        }
+        // Otherwise, use the Zones API
+        return AppLovinIncentivizedInterstitial.create(zoneId, sdk);
+    }
+
+    private static class ZonePool {
+        @NonNull
+        private final AppLovinIncentivizedInterstitial[] mInterstitials =
+                new AppLovinIncentivizedInterstitial[INTERSTITIALS_PER_ZONE];
+        // The interstitial that was preloaded last, which new loads wait on if none is ready
+        private int mNextIndex;
+
+        @NonNull
+        synchronized AppLovinIncentivizedInterstitial acquire(@NonNull final String zoneId,
+                                                              @NonNull final Activity activity,
+                                                              @NonNull final AppLovinSdk sdk) {
+            for (final AppLovinIncentivizedInterstitial interstitial : mInterstitials) {
+                if (interstitial != null && interstitial.isAdReadyToDisplay()) {
+                    return interstitial;
+                }
+            }
+
+            if (mInterstitials[mNextIndex] == null) {
+                mInterstitials[mNextIndex] = create(zoneId, activity, sdk);
+            }
+            return mInterstitials[mNextIndex];
+        }
+
+        synchronized boolean isReady() {
+            for (final AppLovinIncentivizedInterstitial interstitial : mInterstitials) {
+                if (interstitial != null && interstitial.isAdReadyToDisplay()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return an interstitial of the zone other than {@code showing}, which is created if
+         * needed, or null if {@code showing} is not part of the pool.
+         */
+        @Nullable
+        synchronized AppLovinIncentivizedInterstitial getNext(@NonNull final String zoneId,
+                                                              @NonNull final AppLovinIncentivizedInterstitial showing,
+                                                              @NonNull final Activity activity,
+                                                              @NonNull final AppLovinSdk sdk) {
+            for (int i = 0; i < mInterstitials.length; i++) {
+                if (mInterstitials[i] != showing) {
+                    continue;
+                }
+
+                mNextIndex = (i + 1) % mInterstitials.length;
+                if (mInterstitials[mNextIndex] == null) {
+                    mInterstitials[mNextIndex] = create(zoneId, activity, sdk);
+                }
+                return mInterstitials[mNextIndex];
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Compact binary snapshot of the AppLovin initialization parameters. The snapshot is mapped and
+ * read on a background thread as soon as a context is available. {@link #get(Context)} waits for
+ * that read, which only maps a few bytes, instead of loading the whole SharedPreferences file.
+ * Writes only happen when the parameters differ from the persisted ones. They are debounced and
+ * performed on a background thread, so ad loads never cause disk I/O on the calling thread.
+ */
+final class AppLovinInitializationSnapshot {
+    private static final String ADAPTER_NAME = AppLovinInitializationSnapshot.class.getSimpleName();
+
+    private static final String FILE_NAME = "com.mopub.mobileads.applovin.init";
+    private static final int MAGIC = 0x4D504C53;
+    private static final int VERSION = 1;
+    private static final int MAX_ENTRIES = 64;
+    private static final long WRITE_DEBOUNCE_MILLIS = 1000;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @NonNull
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
+    @NonNull
+    private static Map<String, String> sParameters = Collections.emptyMap();
+    @Nullable
+    private static Context sApplicationContext;
+    private static boolean sIsLoadStarted;
+    private static boolean sIsLoaded;
+    // Parameters updated before the read finished, compared with the persisted ones once it does
+    @Nullable
+    private static Map<String, String> sPendingParameters;
+    private static boolean sIsWriteScheduled;
+
+    private AppLovinInitializationSnapshot() {
+    }
+
+    /**
+     * Starts reading the snapshot on a background thread if it has not been read yet.
+     */
+    static synchronized void load(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        if (sIsLoadStarted) {
+            return;
+        }
+        sIsLoadStarted = true;
+        sApplicationContext = context.getApplicationContext();
+
+        final Context applicationContext = sApplicationContext;
+        AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                final Map<String, String> parameters = readFile(getFile(applicationContext));
+                synchronized (AppLovinInitializationSnapshot.class) {
+                    sParameters = parameters;
+                    sIsLoaded = true;
+                    if (sPendingParameters != null) {
+                        replaceParameters(sPendingParameters);
+                        sPendingParameters = null;
+                    }
+                    AppLovinInitializationSnapshot.class.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the persisted parameters, waiting for the snapshot to be read if needed. The map is
+     * empty if there is no snapshot yet or the wait is interrupted.
+     */
+    @NonNull
+    static synchronized Map<String, String> get(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        load(context);
+        while (!sIsLoaded) {
+            try {
+                AppLovinInitializationSnapshot.class.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyMap();
+            }
+        }
+        return sParameters;
+    }
+
+    /**
+     * Replaces the persisted parameters and schedules a write if they differ from the persisted
+     * ones. Never blocks on disk I/O: if the snapshot has not been read yet, the comparison is
+     * made once it has.
+     */
+    static synchronized void update(@NonNull final Context context,
+                                    @NonNull final Map<String, String> parameters) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(parameters);
+
+        load(context);
+        final Map<String, String> parametersCopy =
+                Collections.unmodifiableMap(new HashMap<>(parameters));
+        if (sIsLoaded) {
+            replaceParameters(parametersCopy);
+        } else {
+            sPendingParameters = parametersCopy;
+        }
+    }
+
+    // Guarded by the class
+    private static void replaceParameters(@NonNull final Map<String, String> parameters) {
+        if (sParameters.equals(parameters)) {
+            return;
+        }
+
+        sParameters = parameters;
+        scheduleWrite();
+    }
+
+    @NonNull
+    private static File getFile(@NonNull final Context applicationContext) {
+        return new File(applicationContext.getFilesDir(), FILE_NAME);
+    }
+
+    @NonNull
+    private static Map<String, String> readFile(@NonNull final File file) {
+        if (!file.exists()) {
+            return Collections.emptyMap();
+        }
+
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            final FileChannel channel = randomAccessFile.getChannel();
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (Exception e) {
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Unable to read the AppLovin initialization " +
+                    "snapshot", e);
+            return Collections.emptyMap();
+        } finally {
+            closeQuietly(randomAccessFile);
+        }
+    }
+
+    @NonNull
+    private static Map<String, String> read(@NonNull final ByteBuffer buffer) {
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return Collections.emptyMap();
+        }
+
+        final int count = buffer.getInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> parameters = new HashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            parameters.put(readString(buffer), readString(buffer));
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @NonNull
+    private static String readString(@NonNull final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void scheduleWrite() {
+        if (sIsWriteScheduled) {
+            return;
+        }
+        sIsWriteScheduled = true;
+
+        sMainHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        write();
+                    }
+                });
+            }
+        }, WRITE_DEBOUNCE_MILLIS);
+    }
+
+    private static void write() {
+        final Map<String, String> parameters;
+        final Context applicationContext;
+        synchronized (AppLovinInitializationSnapshot.class) {
+            sIsWriteScheduled = false;
+            parameters = sParameters;
+            applicationContext = sApplicationContext;
+        }
+
+        if (applicationContext == null) {
+            return;
+        }
+
+        final File file = getFile(applicationContext);
+        // Write to a temporary file first so that a partially written snapshot is never mapped
+        final File tempFile = new File(file.getPath() + ".tmp");
+        DataOutputStream outputStream = null;
+        try {
+            outputStream = new DataOutputStream(new FileOutputStream(tempFile));
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+            outputStream.writeInt(parameters.size());
+            for (final Map.Entry<String, String> entry : parameters.entrySet()) {
+                writeString(outputStream, entry.getKey());
+                writeString(outputStream, entry.getValue());
+            }
+            outputStream.close();
+            outputStream = null;
+
+            if (!tempFile.renameTo(file)) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to replace the AppLovin " +
+                        "initialization snapshot.");
+            }
+        } catch (IOException e) {
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Unable to write the AppLovin initialization " +
+                    "snapshot", e);
+        } finally {
+            closeQuietly(outputStream);
+        }
+    }
+
+    private static void writeString(@NonNull final DataOutputStream outputStream,
+                                    @Nullable final String value) throws IOException {
+        final byte[] bytes = (value != null ? value : "").getBytes(UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static void closeQuietly(@Nullable final Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing to do
+        }
+    }
+}
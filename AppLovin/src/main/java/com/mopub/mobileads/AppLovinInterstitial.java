@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.text.TextUtils;
 
@@ -24,10 +22,7 @@ import com.mopub.common.DataKeys;
 import com.mopub.common.MoPub;
 import com.mopub.common.logging.MoPubLog;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
@@ -46,17 +41,14 @@ public class AppLovinInterstitial extends CustomEventInterstitial implements App
 
     private static final String ADAPTER_NAME = AppLovinInterstitial.class.getSimpleName();
 
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
-
     private AppLovinSdk sdk;
     private CustomEventInterstitialListener listener;
     private Context context;
 
-    // A map of Zone -> Queue of `AppLovinAd`s to be shared by instances of the custom event.
+    // Preloaded `AppLovinAd`s per zone, shared by instances of the custom event.
     // This prevents skipping of ads as this adapter will be re-created and preloaded
     // on every ad load regardless if ad was actually displayed or not.
-    private static final Map<String, Queue<AppLovinAd>> GLOBAL_INTERSTITIAL_ADS = new HashMap<String, Queue<AppLovinAd>>();
-    private static final Object GLOBAL_INTERSTITIAL_ADS_LOCK = new Object();
+    private static final AppLovinInterstitialAdPool GLOBAL_INTERSTITIAL_ADS = AppLovinInterstitialAdPool.getInstance();
 
     private String zoneId; // The zone identifier this instance of the custom event is loading for
     private boolean isTokenEvent;
@@ -152,6 +144,10 @@ public class AppLovinInterstitial extends CustomEventInterstitial implements App
         }
 
         if (preloadedAd != null) {
+            if (!isTokenEvent) {
+                // Get the next ad for this zone ready while the current one is showing
+                GLOBAL_INTERSTITIAL_ADS.topUp(sdk, zoneId);
+            }
 
             final AppLovinInterstitialAdDialog interstitialAd = AppLovinInterstitialAd.create(sdk, context);
             interstitialAd.setAdDisplayListener(this);
@@ -185,7 +181,7 @@ public class AppLovinInterstitial extends CustomEventInterstitial implements App
         if (isTokenEvent) {
             tokenAd = ad;
         } else {
-            enqueueAd(ad, zoneId);
+            enqueueAd(sdk, ad, zoneId);
         }
 
         runOnUiThread(new Runnable() {
@@ -280,26 +276,11 @@ public class AppLovinInterstitial extends CustomEventInterstitial implements App
     //
 
     private static AppLovinAd dequeueAd(final String zoneId) {
-        synchronized (GLOBAL_INTERSTITIAL_ADS_LOCK) {
-            AppLovinAd preloadedAd = null;
-
-            final Queue<AppLovinAd> preloadedAds = GLOBAL_INTERSTITIAL_ADS.get(zoneId);
-            if (preloadedAds != null && !preloadedAds.isEmpty()) {
-                preloadedAd = preloadedAds.poll();
-            }
-            return preloadedAd;
-        }
+        return zoneId != null ? GLOBAL_INTERSTITIAL_ADS.poll(zoneId) : null;
     }
 
-    private static void enqueueAd(final AppLovinAd ad, final String zoneId) {
-        synchronized (GLOBAL_INTERSTITIAL_ADS_LOCK) {
-            Queue<AppLovinAd> preloadedAds = GLOBAL_INTERSTITIAL_ADS.get(zoneId);
-            if (preloadedAds == null) {
-                preloadedAds = new LinkedList<AppLovinAd>();
-                GLOBAL_INTERSTITIAL_ADS.put(zoneId, preloadedAds);
-            }
-            preloadedAds.offer(ad);
-        }
+    private static void enqueueAd(final AppLovinSdk sdk, final AppLovinAd ad, final String zoneId) {
+        GLOBAL_INTERSTITIAL_ADS.offer(sdk, zoneId, ad);
     }
 
     private static MoPubErrorCode toMoPubErrorCode(final int applovinErrorCode) {
@@ -335,10 +316,6 @@ public class AppLovinInterstitial extends CustomEventInterstitial implements App
      * Performs the given runnable on the main thread.
      */
     private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
+        AppLovinMainThreadDispatcher.dispatch(runnable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.mopub.mobileads;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.TextUtils;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinAdSize;
+import com.applovin.sdk.AppLovinSdk;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Inventory of preloaded AppLovin interstitial ads shared by all instances of
+ * {@link AppLovinInterstitial}. Each zone is guarded by its own lock and holds at most
+ * {@link #MAX_ADS_PER_ZONE} ads. Ad lifetimes are tracked by the {@link AppLovinAdExpirationManager},
+ * which evicts ads as soon as they expire. After an ad is shown or is about to expire, the zone is
+ * topped up in the background to {@link #TARGET_ADS_PER_ZONE} ads so that the next load can be
+ * served from memory.
+ */
+class AppLovinInterstitialAdPool {
+    private static final String ADAPTER_NAME = AppLovinInterstitialAdPool.class.getSimpleName();
+
+    private static final int MAX_ADS_PER_ZONE = 3;
+    private static final int TARGET_ADS_PER_ZONE = 1;
+
+    private static final AppLovinInterstitialAdPool sInstance = new AppLovinInterstitialAdPool();
+
+    @NonNull
+    private final ConcurrentHashMap<String, ZoneInventory> mZoneInventories =
+            new ConcurrentHashMap<>();
+
+    @NonNull
+    static AppLovinInterstitialAdPool getInstance() {
+        return sInstance;
+    }
+
+    private AppLovinInterstitialAdPool() {
+    }
+
+    /**
+     * @return the oldest unexpired ad for the zone, or null if there is none.
+     */
+    @Nullable
+    AppLovinAd poll(@NonNull final String zoneId) {
+        Preconditions.checkNotNull(zoneId);
+
+        final ZoneInventory inventory = mZoneInventories.get(zoneId);
+        return inventory != null ? inventory.poll() : null;
+    }
+
+    /**
+     * Adds an ad loaded for the zone. The SDK that loaded it is used to refresh the zone when the
+     * ad is about to expire.
+     */
+    void offer(@NonNull final AppLovinSdk sdk, @NonNull final String zoneId,
+               @NonNull final AppLovinAd ad) {
+        Preconditions.checkNotNull(sdk);
+        Preconditions.checkNotNull(zoneId);
+        Preconditions.checkNotNull(ad);
+
+        getOrCreateInventory(zoneId).offer(sdk, zoneId, ad);
+    }
+
+    /**
+     * Loads ads for the zone in the background until it holds {@link #TARGET_ADS_PER_ZONE} ads.
+     * At most one top-up load is in flight per zone.
+     */
+    void topUp(@NonNull final AppLovinSdk sdk, @NonNull final String zoneId) {
+        Preconditions.checkNotNull(sdk);
+        Preconditions.checkNotNull(zoneId);
+
+        final ZoneInventory inventory = getOrCreateInventory(zoneId);
+        if (!inventory.startTopUp(sdk)) {
+            return;
+        }
+
+        final AppLovinAdLoadListener topUpListener = new AppLovinAdLoadListener() {
+            @Override
+            public void adReceived(final AppLovinAd ad) {
+                inventory.offer(sdk, zoneId, ad);
+                inventory.finishTopUp();
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Topped up preloaded ads for zone: {" +
+                        zoneId + "}");
+
+                topUp(sdk, zoneId);
+            }
+
+            @Override
+            public void failedToReceiveAd(final int errorCode) {
+                inventory.finishTopUp();
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Failed to top up preloaded ads for zone: {" +
+                        zoneId + "} with error: " + errorCode);
+            }
+        };
+
+        if (!TextUtils.isEmpty(zoneId)) {
+            sdk.getAdService().loadNextAdForZoneId(zoneId, topUpListener);
+        } else {
+            sdk.getAdService().loadNextAd(AppLovinAdSize.INTERSTITIAL, topUpListener);
+        }
+    }
+
+    @NonNull
+    private ZoneInventory getOrCreateInventory(@NonNull final String zoneId) {
+        ZoneInventory inventory = mZoneInventories.get(zoneId);
+        if (inventory == null) {
+            final ZoneInventory newInventory = new ZoneInventory();
+            inventory = mZoneInventories.putIfAbsent(zoneId, newInventory);
+            if (inventory == null) {
+                inventory = newInventory;
+            }
+        }
+        return inventory;
+    }
+
+    private void onAdExpiring(@NonNull final AppLovinSdk sdk, @NonNull final String zoneId) {
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Refreshing expiring preloaded ad for zone: {" +
+                zoneId + "}");
+        topUp(sdk, zoneId);
+    }
+
+    private class ZoneInventory {
+        @NonNull
+        private final ArrayDeque<PooledAd> mAds = new ArrayDeque<>(MAX_ADS_PER_ZONE);
+        private boolean mIsTopUpInFlight;
+        // The SDK that last loaded or topped up the zone, to refresh ads that are about to expire
+        @Nullable
+        private AppLovinSdk mSdk;
+
+        @Nullable
+        synchronized AppLovinAd poll() {
+            evictExpired();
+            final PooledAd pooledAd = mAds.poll();
+            if (pooledAd == null) {
+                return null;
+            }
+            pooledAd.expiration.cancel();
+            return pooledAd.ad;
+        }
+
+        synchronized void offer(@NonNull final AppLovinSdk sdk, @NonNull final String zoneId,
+                                @NonNull final AppLovinAd ad) {
+            mSdk = sdk;
+            evictExpired();
+            if (mAds.size() >= MAX_ADS_PER_ZONE) {
+                mAds.poll().expiration.cancel();
+            }
+            mAds.offer(new PooledAd(zoneId, ad));
+        }
+
+        synchronized boolean startTopUp(@NonNull final AppLovinSdk sdk) {
+            mSdk = sdk;
+            evictExpired();
+            if (mIsTopUpInFlight || countFreshAds() >= TARGET_ADS_PER_ZONE) {
+                return false;
+            }
+            mIsTopUpInFlight = true;
+            return true;
+        }
+
+        synchronized void finishTopUp() {
+            mIsTopUpInFlight = false;
+        }
+
+        synchronized void remove(@NonNull final PooledAd pooledAd) {
+            mAds.remove(pooledAd);
+        }
+
+        private int countFreshAds() {
+            int count = 0;
+            for (final PooledAd pooledAd : mAds) {
+                if (!pooledAd.isExpiring) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // The manager evicts ads on the main thread, which may lag behind their deadline
+        private void evictExpired() {
+            final Iterator<PooledAd> iterator = mAds.iterator();
+            while (iterator.hasNext()) {
+                final PooledAd pooledAd = iterator.next();
+                if (pooledAd.expiration.isExpired()) {
+                    pooledAd.expiration.cancel();
+                    iterator.remove();
+                }
+            }
+        }
+
+        private class PooledAd implements AppLovinAdExpirationManager.Listener {
+            @NonNull
+            final String zoneId;
+            @NonNull
+            final AppLovinAd ad;
+            @NonNull
+            final AppLovinAdExpirationManager.Expiration expiration;
+            // Guarded by the enclosing ZoneInventory
+            boolean isExpiring;
+
+            PooledAd(@NonNull final String zoneId, @NonNull final AppLovinAd ad) {
+                this.zoneId = zoneId;
+                this.ad = ad;
+                this.expiration = AppLovinAdExpirationManager.getInstance().track(this);
+            }
+
+            @Override
+            public void onAdExpiring() {
+                final AppLovinSdk sdk;
+                synchronized (ZoneInventory.this) {
+                    isExpiring = true;
+                    sdk = mSdk;
+                }
+                if (sdk != null) {
+                    AppLovinInterstitialAdPool.this.onAdExpiring(sdk, zoneId);
+                }
+            }
+
+            @Override
+            public void onAdExpired() {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Evicting expired preloaded ad for zone: {" +
+                        zoneId + "}");
+                remove(this);
+            }
+        }
+    }
+}
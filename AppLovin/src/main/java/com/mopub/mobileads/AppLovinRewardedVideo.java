@@ -24,7 +24,6 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.logging.MoPubLog;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
@@ -40,15 +39,15 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 
 public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements AppLovinAdLoadListener, AppLovinAdDisplayListener, AppLovinAdClickListener, AppLovinAdVideoPlaybackListener, AppLovinAdRewardListener {
 
-    private static final String DEFAULT_ZONE = "";
-    private static final String DEFAULT_TOKEN_ZONE = "token";
+    static final String DEFAULT_ZONE = "";
+    static final String DEFAULT_TOKEN_ZONE = "token";
     private static final String ZONE_ID_SERVER_EXTRAS_KEY = "zone_id";
     private static final String ADAPTER_NAME = AppLovinRewardedVideo.class.getSimpleName();
 
-    // A map of Zone -> `AppLovinIncentivizedInterstitial` to be shared by instances of the custom event.
+    // `AppLovinIncentivizedInterstitial`s per zone, shared by instances of the custom event.
     // This prevents skipping of ads as this adapter will be re-created and preloaded (along with underlying `AppLovinIncentivizedInterstitial`)
     // on every ad load regardless if ad was actually displayed or not.
-    private static final Map<String, AppLovinIncentivizedInterstitial> GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS = new HashMap<String, AppLovinIncentivizedInterstitial>();
+    private static final AppLovinIncentivizedInterstitialPool GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS = AppLovinIncentivizedInterstitialPool.getInstance();
 
     private boolean initialized;
 
@@ -61,7 +60,10 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
 
     private boolean isTokenEvent;
     private AppLovinAd tokenAd;
+    @Nullable
+    private AppLovinAdExpirationManager.Expiration tokenAdExpiration;
     private String serverExtrasZoneId = DEFAULT_ZONE;
+    private String zoneId = DEFAULT_ZONE;
 
     @NonNull
     private AppLovinAdapterConfiguration mAppLovinAdapterConfiguration;
@@ -103,13 +105,9 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
         final String adMarkup = serverExtras.get(DataKeys.ADM_KEY);
         final boolean hasAdMarkup = !TextUtils.isEmpty(adMarkup);
 
-        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Requesting AppLovin rewarded video with serverExtras: " + serverExtras
-                + ", localExtras: " + localExtras + " and has ad markup: " + hasAdMarkup);
-
         mAppLovinAdapterConfiguration.setCachedInitializationParameters(activity, serverExtras);
 
         // Determine zone
-        final String zoneId;
         if (hasAdMarkup) {
             zoneId = DEFAULT_TOKEN_ZONE;
         } else {
@@ -121,8 +119,13 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
             }
         }
 
-        // Create incentivized ad based off of zone
-        incentivizedInterstitial = createIncentivizedInterstitialAd(zoneId, activity, sdk);
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Requesting AppLovin rewarded video for zone: {" + zoneId
+                + "} and has ad markup: " + hasAdMarkup);
+
+        // Get an incentivized ad for the zone, preferring one that is already preloaded
+        final boolean isPreloaded = !hasAdMarkup
+                && GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.isReady(zoneId);
+        incentivizedInterstitial = GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.acquire(zoneId, activity, sdk);
 
         // Use token API
         if (hasAdMarkup) {
@@ -131,6 +134,13 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
             sdk.getAdService().loadNextAdForAdToken(adMarkup, this);
             MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
         }
+        // Zone/regular ad served from the ad preloaded while the last one was shown
+        else if (isPreloaded && incentivizedInterstitial.isAdReadyToDisplay()) {
+            MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Using preloaded rewarded video for zone: {" +
+                    zoneId + "}");
+            notifyLoadSuccess();
+        }
         // Zone/regular ad load
         else {
             incentivizedInterstitial.preload(this);
@@ -147,6 +157,7 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
             reward = null;
 
             if (isTokenEvent) {
+                cancelTokenAdExpiration();
                 incentivizedInterstitial.show(tokenAd, parentActivity, this, this, this, this);
             } else {
                 incentivizedInterstitial.show(parentActivity, null, this, this, this, this);
@@ -185,6 +196,7 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
 
     @Override
     protected void onInvalidate() {
+        cancelTokenAdExpiration();
     }
 
     //
@@ -197,9 +209,14 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
 
         if (isTokenEvent) {
             tokenAd = ad;
+            trackTokenAdExpiration();
         }
 
-        parentActivity.runOnUiThread(new Runnable() {
+        notifyLoadSuccess();
+    }
+
+    private void notifyLoadSuccess() {
+        AppLovinMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -217,7 +234,7 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
     @Override
     public void failedToReceiveAd(final int errorCode) {
 
-        parentActivity.runOnUiThread(new Runnable() {
+        AppLovinMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -235,6 +252,39 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
         });
     }
 
+    // Ads loaded from a token cannot be refreshed, so they are only dropped once they expire.
+    // Ads preloaded by `AppLovinIncentivizedInterstitial` are expired by the AppLovin SDK.
+    private void trackTokenAdExpiration() {
+        cancelTokenAdExpiration();
+        tokenAdExpiration = AppLovinAdExpirationManager.getInstance().track(
+                new AppLovinAdExpirationManager.Listener() {
+                    @Override
+                    public void onAdExpiring() {
+                    }
+
+                    @Override
+                    public void onAdExpired() {
+                        tokenAd = null;
+                        tokenAdExpiration = null;
+
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Expiring unused AppLovin rewarded " +
+                                "video ad loaded from a token.");
+                        MoPubRewardedVideoManager.onRewardedVideoLoadFailure(
+                                AppLovinRewardedVideo.class, getAdNetworkId(),
+                                MoPubErrorCode.EXPIRED);
+                        MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.EXPIRED.getIntCode(),
+                                MoPubErrorCode.EXPIRED);
+                    }
+                });
+    }
+
+    private void cancelTokenAdExpiration() {
+        if (tokenAdExpiration != null) {
+            tokenAdExpiration.cancel();
+            tokenAdExpiration = null;
+        }
+    }
+
     //
     // Ad Display Listener
     //
@@ -244,6 +294,12 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
         MoPubRewardedVideoManager.onRewardedVideoStarted(getClass(), getAdNetworkId());
 
         MoPubLog.log(SHOW_SUCCESS, ADAPTER_NAME);
+
+        // Ads loaded from a token are not preloaded
+        if (!isTokenEvent && incentivizedInterstitial != null && parentActivity != null) {
+            GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.preloadAhead(zoneId, incentivizedInterstitial,
+                    parentActivity, sdk);
+        }
     }
 
     @Override
@@ -356,26 +412,4 @@ public class AppLovinRewardedVideo extends CustomEventRewardedVideo implements A
         }
         return sdk;
     }
-
-    private static AppLovinIncentivizedInterstitial createIncentivizedInterstitialAd(final String zoneId, final Activity activity, final AppLovinSdk sdk) {
-        final AppLovinIncentivizedInterstitial incent;
-
-        // Check if incentivized ad for zone already exists
-        if (GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.containsKey(zoneId)) {
-            incent = GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.get(zoneId);
-        } else {
-            // If this is a default or token Zone, create the incentivized ad normally
-            if (DEFAULT_ZONE.equals(zoneId) || DEFAULT_TOKEN_ZONE.equals(zoneId)) {
-                incent = AppLovinIncentivizedInterstitial.create(activity);
-            }
-            // Otherwise, use the Zones API
-            else {
-                incent = AppLovinIncentivizedInterstitial.create(zoneId, sdk);
-            }
-
-            GLOBAL_INCENTIVIZED_INTERSTITIAL_ADS.put(zoneId, incent);
-        }
-
-        return incent;
-    }
 }
@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -71,6 +72,8 @@ public class ChartboostAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
 
         synchronized (ChartboostAdapterConfiguration.class) {
@@ -110,9 +113,13 @@ public class ChartboostAdapterConfiguration extends BaseAdapterConfiguration {
         }
 
         if (networkInitializationSucceeded) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(ChartboostAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(ChartboostAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
@@ -3,6 +3,7 @@ package com.mopub.mobileads;
 import android.app.Activity;
 import android.content.Context;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 import com.chartboost.sdk.Chartboost;
@@ -11,9 +12,10 @@ import com.mopub.common.logging.MoPubLog;
 
 import java.util.Map;
 
-import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_ATTEMPTED;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_FAILED;
 
 class ChartboostInterstitial extends CustomEventInterstitial {
 
@@ -22,6 +24,9 @@ class ChartboostInterstitial extends CustomEventInterstitial {
     @NonNull
     private String mLocation = ChartboostShared.LOCATION_DEFAULT;
 
+    @Nullable
+    private CustomEventInterstitialListener mInterstitialListener;
+
     @NonNull
     private ChartboostAdapterConfiguration mChartboostAdapterConfiguration;
 
@@ -62,22 +67,11 @@ class ChartboostInterstitial extends CustomEventInterstitial {
             mLocation = TextUtils.isEmpty(location) ? mLocation : location;
         }
 
-        // If there's already a listener for this location, then another instance of
-        // CustomEventInterstitial is still active and we should fail.
-        if (ChartboostShared.getDelegate().hasInterstitialLocation(mLocation) &&
-                ChartboostShared.getDelegate().getInterstitialListener(mLocation) != interstitialListener) {
-            interstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
-
-            MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
-                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                    MoPubErrorCode.NETWORK_NO_FILL);
-            return;
-        }
-
         Activity activity = (Activity) context;
         try {
             ChartboostShared.initializeSdk(activity, serverExtras);
             ChartboostShared.getDelegate().registerInterstitialListener(mLocation, interstitialListener);
+            mInterstitialListener = interstitialListener;
 
             mChartboostAdapterConfiguration.setCachedInitializationParameters(context, serverExtras);
         } catch (NullPointerException e) {
@@ -98,23 +92,39 @@ class ChartboostInterstitial extends CustomEventInterstitial {
 
         Chartboost.onCreate(activity);
         Chartboost.onStart(activity);
-        if (Chartboost.hasInterstitial(mLocation)) {
-            ChartboostShared.getDelegate().didCacheInterstitial(mLocation);
-        } else {
-            Chartboost.cacheInterstitial(mLocation);
-            MoPubLog.log(mLocation, LOAD_ATTEMPTED, ADAPTER_NAME);
-        }
+        ChartboostShared.getDelegate().loadInterstitial(mLocation);
     }
 
     @Override
     protected void showInterstitial() {
         MoPubLog.log(SHOW_ATTEMPTED, ADAPTER_NAME);
 
+        // Ad units sharing the location share its cached interstitial, which another one may
+        // have shown already
+        if (!Chartboost.hasInterstitial(mLocation)) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Attempted to show Chartboost interstitial before " +
+                    "it was available.");
+            MoPubLog.log(SHOW_FAILED, ADAPTER_NAME,
+                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                    MoPubErrorCode.NETWORK_NO_FILL);
+
+            if (mInterstitialListener != null) {
+                mInterstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
+            }
+            return;
+        }
+
+        if (mInterstitialListener != null) {
+            ChartboostShared.getDelegate().setShowingInterstitialListener(mLocation, mInterstitialListener);
+        }
         Chartboost.showInterstitial(mLocation);
     }
 
     @Override
     protected void onInvalidate() {
-        ChartboostShared.getDelegate().unregisterInterstitialListener(mLocation);
+        if (mInterstitialListener != null) {
+            ChartboostShared.getDelegate().unregisterInterstitialListener(mLocation, mInterstitialListener);
+            mInterstitialListener = null;
+        }
     }
 }
@@ -14,7 +14,6 @@ import com.mopub.common.logging.MoPubLog;
 import java.util.Map;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
-import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_FAILED;
 
@@ -90,12 +89,7 @@ public class ChartboostRewardedVideo extends CustomEventRewardedVideo {
         // and ad unit ID before any delegate callbacks are made.
         mHandler.post(new Runnable() {
             public void run() {
-                if (Chartboost.hasRewardedVideo(mLocation)) {
-                    ChartboostShared.getDelegate().didCacheRewardedVideo(mLocation);
-                } else {
-                    Chartboost.cacheRewardedVideo(mLocation);
-                    MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
-                }
+                ChartboostShared.getDelegate().loadRewardedVideo(mLocation);
             }
         });
     }
@@ -1,6 +1,7 @@
 package com.mopub.mobileads;
 
 import android.app.Activity;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -17,14 +18,17 @@ import com.mopub.common.privacy.ConsentStatus;
 import com.mopub.common.privacy.PersonalInfoManager;
 import com.mopub.mobileads.CustomEventInterstitial.CustomEventInterstitialListener;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_SUCCESS;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOULD_REWARD;
@@ -45,6 +49,11 @@ public class ChartboostShared {
     private static final String APP_SIGNATURE_KEY = "appSignature";
     private static final String ADAPTER_NAME = ChartboostShared.class.getSimpleName();
 
+    // A cache request without a callback for this long no longer blocks new requests
+    private static final long LOAD_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    private static volatile boolean sRecacheAfterShow;
+
     @Nullable
     private static String mAppId;
     @Nullable
@@ -131,6 +140,26 @@ public class ChartboostShared {
         return sDelegate;
     }
 
+    /**
+     * Caches a location again in the background after its ad is dismissed, so that the next load
+     * of the location is served immediately. Disabled by default.
+     */
+    public static void setRecacheAfterShow(final boolean recacheAfterShow) {
+        sRecacheAfterShow = recacheAfterShow;
+    }
+
+    /**
+     * Load state of a Chartboost location.
+     */
+    enum LocationLoadState {
+        // Nothing has been requested, or the last request failed or was shown
+        IDLE,
+        // A cache request is in flight
+        LOADING,
+        // Content is cached and has not been shown yet
+        LOADED
+    }
+
     /**
      * A {@link ChartboostDelegate} that can forward events for Chartboost interstitials
      * and rewarded videos to the appropriate listener based on the Chartboost location used.
@@ -172,41 +201,166 @@ public class ChartboostShared {
         // Chartboost Location Management for interstitials and rewarded videos
         //***************
 
-        private Map<String, CustomEventInterstitialListener> mInterstitialListenersForLocation
-                = Collections.synchronizedMap(new TreeMap<String, CustomEventInterstitialListener>());
+        private final ConcurrentHashMap<String, InterstitialLocation> mInterstitialLocations =
+                new ConcurrentHashMap<>();
 
-        private Set<String> mRewardedVideoLocationsToLoad = Collections.synchronizedSet(new TreeSet<String>());
+        private final ConcurrentHashMap<String, RewardedVideoLocation> mRewardedVideoLocations =
+                new ConcurrentHashMap<>();
 
+        /**
+         * Registers a listener that waits for the next load result of the location. Several ad
+         * units can share a location, and each of them is notified.
+         */
         public void registerInterstitialListener(@NonNull String location,
                                                  @NonNull CustomEventInterstitialListener interstitialListener) {
             Preconditions.checkNotNull(location);
             Preconditions.checkNotNull(interstitialListener);
-            mInterstitialListenersForLocation.put(location, interstitialListener);
+            getOrCreateInterstitialLocation(location).register(interstitialListener);
         }
 
+        /**
+         * Unregisters every listener of the location.
+         */
         public void unregisterInterstitialListener(@NonNull String location) {
             Preconditions.checkNotNull(location);
-            mInterstitialListenersForLocation.remove(location);
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            if (interstitialLocation != null) {
+                interstitialLocation.clear();
+            }
+        }
+
+        public void unregisterInterstitialListener(@NonNull String location,
+                                                   @NonNull CustomEventInterstitialListener interstitialListener) {
+            Preconditions.checkNotNull(location);
+            Preconditions.checkNotNull(interstitialListener);
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            if (interstitialLocation != null
+                    && interstitialLocation.unregister(interstitialListener)
+                    && interstitialLocation.hasPendingListeners()) {
+                // The cached content is free again, so serve the next ad unit waiting for it
+                loadInterstitial(location);
+            }
+        }
+
+        /**
+         * Routes the display, click and dismiss callbacks of the location to the listener of the
+         * ad unit that is about to show it.
+         */
+        public void setShowingInterstitialListener(@NonNull String location,
+                                                   @NonNull CustomEventInterstitialListener interstitialListener) {
+            Preconditions.checkNotNull(location);
+            Preconditions.checkNotNull(interstitialListener);
+            getOrCreateInterstitialLocation(location).mShowingListener = interstitialListener;
         }
 
         public void registerRewardedVideoLocation(@NonNull String location) {
             Preconditions.checkNotNull(location);
-            mRewardedVideoLocationsToLoad.add(location);
+            getOrCreateRewardedVideoLocation(location).register();
         }
 
         public void unregisterRewardedVideoLocation(@NonNull String location) {
             Preconditions.checkNotNull(location);
-            mRewardedVideoLocationsToLoad.remove(location);
+            final RewardedVideoLocation rewardedVideoLocation = mRewardedVideoLocations.get(location);
+            if (rewardedVideoLocation != null) {
+                rewardedVideoLocation.unregister();
+            }
         }
 
+        /**
+         * @return the listener showing the location, or any listener registered for it.
+         */
         @NonNull
         public CustomEventInterstitialListener getInterstitialListener(@NonNull String location) {
-            final CustomEventInterstitialListener listener = mInterstitialListenersForLocation.get(location);
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            final CustomEventInterstitialListener listener = interstitialLocation != null
+                    ? interstitialLocation.getListener()
+                    : null;
             return listener != null ? listener : NULL_LISTENER;
         }
 
         public boolean hasInterstitialLocation(@NonNull String location) {
-            return mInterstitialListenersForLocation.containsKey(location);
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            return interstitialLocation != null && interstitialLocation.hasListeners();
+        }
+
+        @NonNull
+        LocationLoadState getInterstitialLoadState(@NonNull String location) {
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            return interstitialLocation != null
+                    ? interstitialLocation.mLoadState
+                    : LocationLoadState.IDLE;
+        }
+
+        @NonNull
+        LocationLoadState getRewardedVideoLoadState(@NonNull String location) {
+            final RewardedVideoLocation rewardedVideoLocation = mRewardedVideoLocations.get(location);
+            return rewardedVideoLocation != null
+                    ? rewardedVideoLocation.mLoadState
+                    : LocationLoadState.IDLE;
+        }
+
+        /**
+         * Serves the location from the Chartboost cache if it has content, and otherwise requests
+         * it. Concurrent loads of the same location share one cache request. A location caches one
+         * interstitial at a time, so its content is handed to one waiting ad unit at a time, and
+         * the others keep waiting until it is shown or released.
+         */
+        void loadInterstitial(@NonNull String location) {
+            Preconditions.checkNotNull(location);
+
+            if (Chartboost.hasInterstitial(location)) {
+                didCacheInterstitial(location);
+            } else if (getOrCreateInterstitialLocation(location).startLoading()) {
+                Chartboost.cacheInterstitial(location);
+                MoPubLog.log(location, LOAD_ATTEMPTED, ADAPTER_NAME);
+            } else {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost interstitial is already being " +
+                        "cached for location " + location + ".");
+            }
+        }
+
+        /**
+         * Serves the location from the Chartboost cache if it has content, and otherwise requests
+         * it. Concurrent loads of the same location share one cache request.
+         */
+        void loadRewardedVideo(@NonNull String location) {
+            Preconditions.checkNotNull(location);
+
+            if (Chartboost.hasRewardedVideo(location)) {
+                didCacheRewardedVideo(location);
+            } else if (getOrCreateRewardedVideoLocation(location).startLoading()) {
+                Chartboost.cacheRewardedVideo(location);
+                MoPubLog.log(location, LOAD_ATTEMPTED, ADAPTER_NAME);
+            } else {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost rewarded video is already being " +
+                        "cached for location " + location + ".");
+            }
+        }
+
+        @NonNull
+        private InterstitialLocation getOrCreateInterstitialLocation(@NonNull String location) {
+            InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            if (interstitialLocation == null) {
+                final InterstitialLocation newLocation = new InterstitialLocation();
+                interstitialLocation = mInterstitialLocations.putIfAbsent(location, newLocation);
+                if (interstitialLocation == null) {
+                    interstitialLocation = newLocation;
+                }
+            }
+            return interstitialLocation;
+        }
+
+        @NonNull
+        private RewardedVideoLocation getOrCreateRewardedVideoLocation(@NonNull String location) {
+            RewardedVideoLocation rewardedVideoLocation = mRewardedVideoLocations.get(location);
+            if (rewardedVideoLocation == null) {
+                final RewardedVideoLocation newLocation = new RewardedVideoLocation();
+                rewardedVideoLocation = mRewardedVideoLocations.putIfAbsent(location, newLocation);
+                if (rewardedVideoLocation == null) {
+                    rewardedVideoLocation = newLocation;
+                }
+            }
+            return rewardedVideoLocation;
         }
 
         //******************
@@ -218,9 +372,15 @@ public class ChartboostShared {
         //******************
         @Override
         public void didCacheInterstitial(String location) {
-            getInterstitialListener(location).onInterstitialLoaded();
-            MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+            final InterstitialLocation interstitialLocation = getOrCreateInterstitialLocation(location);
+            interstitialLocation.mLoadState = LocationLoadState.LOADED;
 
+            final CustomEventInterstitialListener listener =
+                    interstitialLocation.takeNextPendingListener();
+            if (listener != null) {
+                listener.onInterstitialLoaded();
+                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+            }
         }
 
         @Override
@@ -228,33 +388,66 @@ public class ChartboostShared {
             String suffix = error != null ? "Error: " + error.name() : "";
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost interstitial ad failed to load." + suffix);
 
-            getInterstitialListener(location).onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
+            final InterstitialLocation interstitialLocation = getOrCreateInterstitialLocation(location);
+            interstitialLocation.mLoadState = LocationLoadState.IDLE;
 
-            MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
-                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                    MoPubErrorCode.NETWORK_NO_FILL);
+            for (final CustomEventInterstitialListener listener : interstitialLocation.takePendingListeners()) {
+                listener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
+
+                MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
+                        MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                        MoPubErrorCode.NETWORK_NO_FILL);
+            }
         }
 
         @Override
         public void didDismissInterstitial(String location) {
             // Note that this method is fired before didCloseInterstitial and didClickInterstitial.
-            getInterstitialListener(location).onInterstitialDismissed();
+            final CustomEventInterstitialListener listener = getInterstitialListener(location);
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            if (interstitialLocation != null) {
+                // Later loads of the location must not be routed to the dismissed ad unit. Only
+                // the click that may follow the dismissal still belongs to it.
+                interstitialLocation.mDismissedListener = listener;
+                interstitialLocation.mShowingListener = null;
+            }
+            listener.onInterstitialDismissed();
+
+            // Other ad units may still be waiting for the location
+            if (sRecacheAfterShow
+                    || (interstitialLocation != null && interstitialLocation.hasPendingListeners())) {
+                loadInterstitial(location);
+            }
         }
 
         @Override
         public void didCloseInterstitial(String location) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost interstitial ad closed.");
+
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            if (interstitialLocation != null) {
+                interstitialLocation.mDismissedListener = null;
+            }
         }
 
         @Override
         public void didClickInterstitial(String location) {
-            getInterstitialListener(location).onInterstitialClicked();
+            final InterstitialLocation interstitialLocation = mInterstitialLocations.get(location);
+            CustomEventInterstitialListener listener = null;
+            if (interstitialLocation != null) {
+                listener = interstitialLocation.mDismissedListener;
+                interstitialLocation.mDismissedListener = null;
+            }
+            (listener != null ? listener : getInterstitialListener(location)).onInterstitialClicked();
 
             MoPubLog.log(CLICKED, ADAPTER_NAME);
         }
 
         @Override
         public void didDisplayInterstitial(String location) {
+            final InterstitialLocation interstitialLocation = getOrCreateInterstitialLocation(location);
+            interstitialLocation.mLoadState = LocationLoadState.IDLE;
+            interstitialLocation.onContentShown();
             getInterstitialListener(location).onInterstitialShown();
 
             MoPubLog.log(SHOW_SUCCESS, ADAPTER_NAME);
@@ -267,10 +460,12 @@ public class ChartboostShared {
         public void didCacheRewardedVideo(String location) {
             super.didCacheRewardedVideo(location);
 
-            if (mRewardedVideoLocationsToLoad.contains(location)) {
+            final RewardedVideoLocation rewardedVideoLocation = getOrCreateRewardedVideoLocation(location);
+            rewardedVideoLocation.mLoadState = LocationLoadState.LOADED;
 
+            // The rewarded video manager notifies every ad unit loading the location
+            if (rewardedVideoLocation.takePendingLoads()) {
                 MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(ChartboostRewardedVideo.class, location);
-                mRewardedVideoLocationsToLoad.remove(location);
 
                 MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost rewarded video cached for location " +
@@ -282,14 +477,17 @@ public class ChartboostShared {
         public void didFailToLoadRewardedVideo(String location, CBError.CBImpressionError error) {
             super.didFailToLoadRewardedVideo(location, error);
             String suffix = error != null ? " with error: " + error.name() : "";
-            if (mRewardedVideoLocationsToLoad.contains(location)) {
+
+            final RewardedVideoLocation rewardedVideoLocation = getOrCreateRewardedVideoLocation(location);
+            rewardedVideoLocation.mLoadState = LocationLoadState.IDLE;
+
+            if (rewardedVideoLocation.takePendingLoads()) {
                 MoPubErrorCode errorCode = VIDEO_DOWNLOAD_ERROR;
 
                 if (CBError.CBImpressionError.INVALID_LOCATION.equals(error)) {
                     errorCode = ADAPTER_CONFIGURATION_ERROR;
                 }
                 MoPubRewardedVideoManager.onRewardedVideoLoadFailure(ChartboostRewardedVideo.class, location, errorCode);
-                mRewardedVideoLocationsToLoad.remove(location);
 
                 MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
                         errorCode.getIntCode(),
@@ -307,6 +505,10 @@ public class ChartboostShared {
 
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost rewarded video dismissed for location " +
                     location + ".");
+
+            if (sRecacheAfterShow) {
+                loadRewardedVideo(location);
+            }
         }
 
         @Override
@@ -346,6 +548,7 @@ public class ChartboostShared {
         @Override
         public void didDisplayRewardedVideo(String location) {
             super.didDisplayRewardedVideo(location);
+            getOrCreateRewardedVideoLocation(location).mLoadState = LocationLoadState.IDLE;
 
             MoPubRewardedVideoManager.onRewardedVideoStarted(ChartboostRewardedVideo.class, location);
 
@@ -368,6 +571,169 @@ public class ChartboostShared {
         }
     }
 
+    /**
+     * Load state of a location. A location is only cached by one request at a time.
+     */
+    private abstract static class LocationState {
+        @NonNull
+        volatile LocationLoadState mLoadState = LocationLoadState.IDLE;
+        private long mLoadStartMillis;
+
+        /**
+         * @return whether a cache request should be made, in which case the location is marked
+         * as loading.
+         */
+        synchronized boolean startLoading() {
+            final long now = SystemClock.elapsedRealtime();
+            if (mLoadState == LocationLoadState.LOADING
+                    && now - mLoadStartMillis < LOAD_TIMEOUT_MILLIS) {
+                return false;
+            }
+            mLoadState = LocationLoadState.LOADING;
+            mLoadStartMillis = now;
+            return true;
+        }
+    }
+
+    /**
+     * Listeners of the ad units that use a Chartboost interstitial location. The location caches
+     * one interstitial at a time, which is handed to at most one listener.
+     */
+    private static final class InterstitialLocation extends LocationState {
+        // Waiting for the result of a cache request, in the order they were registered
+        @NonNull
+        private final CopyOnWriteArraySet<CustomEventInterstitialListener> mPendingListeners =
+                new CopyOnWriteArraySet<>();
+        // Holds the cached interstitial until it is shown or the listener is unregistered
+        @Nullable
+        private CustomEventInterstitialListener mLoadedListener;
+        @Nullable
+        volatile CustomEventInterstitialListener mShowingListener;
+        // The ad unit whose interstitial was dismissed last, until its close or click arrives
+        @Nullable
+        volatile CustomEventInterstitialListener mDismissedListener;
+
+        synchronized void register(@NonNull final CustomEventInterstitialListener listener) {
+            if (mLoadedListener == listener) {
+                mLoadedListener = null;
+            }
+            mPendingListeners.add(listener);
+        }
+
+        /**
+         * @return whether the listener held the cached interstitial.
+         */
+        synchronized boolean unregister(@NonNull final CustomEventInterstitialListener listener) {
+            mPendingListeners.remove(listener);
+            if (mShowingListener == listener) {
+                mShowingListener = null;
+            }
+            if (mDismissedListener == listener) {
+                mDismissedListener = null;
+            }
+            if (mLoadedListener == listener) {
+                mLoadedListener = null;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void clear() {
+            mPendingListeners.clear();
+            mLoadedListener = null;
+            mShowingListener = null;
+            mDismissedListener = null;
+        }
+
+        /**
+         * Hands the cached interstitial to the listener that has waited longest.
+         *
+         * @return that listener, or null if none is waiting or another listener holds the
+         * interstitial.
+         */
+        @Nullable
+        synchronized CustomEventInterstitialListener takeNextPendingListener() {
+            if (mLoadedListener != null) {
+                return null;
+            }
+            for (final CustomEventInterstitialListener listener : mPendingListeners) {
+                mPendingListeners.remove(listener);
+                mLoadedListener = listener;
+                return listener;
+            }
+            return null;
+        }
+
+        /**
+         * Removes and returns the listeners waiting for a load result.
+         */
+        @NonNull
+        synchronized List<CustomEventInterstitialListener> takePendingListeners() {
+            final List<CustomEventInterstitialListener> listeners =
+                    new ArrayList<>(mPendingListeners);
+            mPendingListeners.clear();
+            return listeners;
+        }
+
+        synchronized void onContentShown() {
+            mLoadedListener = null;
+        }
+
+        boolean hasPendingListeners() {
+            return !mPendingListeners.isEmpty();
+        }
+
+        @Nullable
+        synchronized CustomEventInterstitialListener getListener() {
+            final CustomEventInterstitialListener showingListener = mShowingListener;
+            if (showingListener != null) {
+                return showingListener;
+            }
+            if (mLoadedListener != null) {
+                return mLoadedListener;
+            }
+            for (final CustomEventInterstitialListener listener : mPendingListeners) {
+                return listener;
+            }
+            return null;
+        }
+
+        synchronized boolean hasListeners() {
+            return mShowingListener != null || mLoadedListener != null
+                    || !mPendingListeners.isEmpty();
+        }
+    }
+
+    /**
+     * Loads in flight for a Chartboost rewarded video location. Results are delivered per location
+     * by {@link MoPubRewardedVideoManager}, so only the number of waiting ad units is tracked.
+     */
+    private static final class RewardedVideoLocation extends LocationState {
+        @NonNull
+        private final AtomicInteger mPendingLoadCount = new AtomicInteger(0);
+
+        void register() {
+            mPendingLoadCount.incrementAndGet();
+        }
+
+        void unregister() {
+            while (true) {
+                final int count = mPendingLoadCount.get();
+                if (count <= 0 || mPendingLoadCount.compareAndSet(count, count - 1)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return whether any ad unit was waiting for a load result. Only one concurrent caller
+         * sees true for the same loads.
+         */
+        boolean takePendingLoads() {
+            return mPendingLoadCount.getAndSet(0) > 0;
+        }
+    }
+
 
     @VisibleForTesting
     @Deprecated
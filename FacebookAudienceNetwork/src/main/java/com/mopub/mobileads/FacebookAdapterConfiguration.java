@@ -1,6 +1,8 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -14,9 +16,11 @@ import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.facebookaudiencenetwork.BuildConfig;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
 public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
@@ -24,9 +28,15 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
     private static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
 
+    private static final long BIDDER_TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
     private AtomicBoolean networkInitializationSucceeded = new AtomicBoolean(false);
-    private AtomicReference<String> tokenReference = new AtomicReference<>(null);
-    private AtomicBoolean isComputingToken = new AtomicBoolean(false);
+
+    // Shared by all instances so that a token prefetched during initialization is served to
+    // every caller.
+    private static final AtomicReference<String> tokenReference = new AtomicReference<>(null);
+    private static final AtomicBoolean isComputingToken = new AtomicBoolean(false);
+    private static volatile long tokenExpirationTimeMillis;
 
     @NonNull
     @Override
@@ -64,6 +74,8 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         synchronized (FacebookAdapterConfiguration.class) {
             try {
                 AudienceNetworkAds.buildInitSettings(context)
@@ -78,23 +90,45 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
         }
 
         if (networkInitializationSucceeded.get()) {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(this.getClass(),
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(this.getClass(),
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
     }
 
-    private void refreshBidderToken(final Context context) {
+    /**
+     * Regenerates the bidder token on the shared AsyncTask pool if it is missing or older than
+     * {@link #BIDDER_TOKEN_TTL_MILLIS}. Never blocks the caller.
+     */
+    private static void refreshBidderToken(final Context context) {
+        if (tokenReference.get() != null
+                && SystemClock.elapsedRealtime() < tokenExpirationTimeMillis) {
+            return;
+        }
+
         if (isComputingToken.compareAndSet(false, true)) {
-            new Thread(new Runnable() {
+            final Context applicationContext = context.getApplicationContext();
+            AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
                 @Override
                 public void run() {
-                    tokenReference.set(BidderTokenProvider.getBidderToken(context));
-                    isComputingToken.set(false);
+                    try {
+                        final String token = BidderTokenProvider.getBidderToken(applicationContext);
+                        if (token != null) {
+                            tokenReference.set(token);
+                            tokenExpirationTimeMillis = SystemClock.elapsedRealtime()
+                                    + BIDDER_TOKEN_TTL_MILLIS;
+                        }
+                    } finally {
+                        isComputingToken.set(false);
+                    }
                 }
-            }).start();
+            });
         }
     }
 }
@@ -1,8 +1,8 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
-import android.os.Handler;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 import com.facebook.ads.Ad;
@@ -33,14 +33,13 @@ public class FacebookInterstitial extends CustomEventInterstitial implements Int
     private CustomEventInterstitialListener mInterstitialListener;
     private static final String ADAPTER_NAME = FacebookInterstitial.class.getSimpleName();
     private static AtomicBoolean sIsInitialized = new AtomicBoolean(false);
-    @NonNull
-    private Handler mHandler;
+    @Nullable
+    private FacebookTimingWheel.Timeout mAdExpirationTimeout;
     private Runnable mAdExpiration;
     @NonNull
     private FacebookAdapterConfiguration mFacebookAdapterConfiguration;
 
     public FacebookInterstitial() {
-        mHandler = new Handler();
         mFacebookAdapterConfiguration = new FacebookAdapterConfiguration();
 
         mAdExpiration = new Runnable() {
@@ -139,7 +138,7 @@ public class FacebookInterstitial extends CustomEventInterstitial implements Int
             mInterstitialListener.onInterstitialLoaded();
             MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
         }
-        mHandler.postDelayed(mAdExpiration, ONE_HOURS_MILLIS);
+        mAdExpirationTimeout = FacebookTimingWheel.getInstance().schedule(mAdExpiration, ONE_HOURS_MILLIS);
     }
 
     @Override
@@ -197,6 +196,9 @@ public class FacebookInterstitial extends CustomEventInterstitial implements Int
     }
 
     private void cancelExpirationTimer() {
-        mHandler.removeCallbacks(mAdExpiration);
+        if (mAdExpirationTimeout != null) {
+            mAdExpirationTimeout.cancel();
+            mAdExpirationTimeout = null;
+        }
     }
 }
@@ -1,7 +1,6 @@
 package com.mopub.mobileads;
 
 import android.app.Activity;
-import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -39,14 +38,13 @@ public class FacebookRewardedVideo extends CustomEventRewardedVideo implements R
     private RewardedVideoAd mRewardedVideoAd;
     @NonNull
     private String mPlacementId = "";
-    @NonNull
-    private Handler mHandler;
+    @Nullable
+    private FacebookTimingWheel.Timeout mAdExpirationTimeout;
     private Runnable mAdExpiration;
     @NonNull
     private FacebookAdapterConfiguration mFacebookAdapterConfiguration;
 
     public FacebookRewardedVideo() {
-        mHandler = new Handler();
         mFacebookAdapterConfiguration = new FacebookAdapterConfiguration();
 
         mAdExpiration = new Runnable() {
@@ -174,7 +172,7 @@ public class FacebookRewardedVideo extends CustomEventRewardedVideo implements R
     @Override
     public void onAdLoaded(Ad ad) {
         cancelExpirationTimer();
-        mHandler.postDelayed(mAdExpiration, ONE_HOURS_MILLIS);
+        mAdExpirationTimeout = FacebookTimingWheel.getInstance().schedule(mAdExpiration, ONE_HOURS_MILLIS);
 
         MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(FacebookRewardedVideo.class, mPlacementId);
         MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
@@ -209,6 +207,9 @@ public class FacebookRewardedVideo extends CustomEventRewardedVideo implements R
     }
 
     private void cancelExpirationTimer() {
-        mHandler.removeCallbacks(mAdExpiration);
+        if (mAdExpirationTimeout != null) {
+            mAdExpirationTimeout.cancel();
+            mAdExpirationTimeout = null;
+        }
     }
 }
@@ -0,0 +1,213 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.mopub.common.Preconditions;
+
+/**
+ * Hashed timing wheel shared by the Facebook adapters for timeouts and ad expirations. All timers
+ * are driven by a single daemon thread that only wakes up for occupied buckets, and the scheduled
+ * tasks are run on the main thread. Scheduling and cancelling are O(1).
+ */
+final class FacebookTimingWheel {
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static volatile FacebookTimingWheel sInstance;
+
+    @NonNull
+    private final Object mLock = new Object();
+    @NonNull
+    private final Timeout[] mBuckets = new Timeout[WHEEL_SIZE];
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final long mStartMillis;
+    private long mTick;
+    private int mPendingCount;
+
+    @NonNull
+    static FacebookTimingWheel getInstance() {
+        FacebookTimingWheel instance = sInstance;
+        if (instance == null) {
+            synchronized (FacebookTimingWheel.class) {
+                instance = sInstance;
+                if (instance == null) {
+                    instance = new FacebookTimingWheel();
+                    sInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private FacebookTimingWheel() {
+        mStartMillis = SystemClock.elapsedRealtime();
+
+        final Thread worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runWorker();
+            }
+        }, "FacebookTimingWheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules {@code task} to run on the main thread once {@code delayMillis} has elapsed.
+     *
+     * @return a handle that can be used to cancel the task before it runs.
+     */
+    @NonNull
+    Timeout schedule(@NonNull final Runnable task, final long delayMillis) {
+        Preconditions.checkNotNull(task);
+
+        final Timeout timeout = new Timeout(task);
+        synchronized (mLock) {
+            final long now = SystemClock.elapsedRealtime();
+            if (mPendingCount == 0) {
+                // Nothing was pending, so the worker may have skipped ticks while idle.
+                mTick = currentTick(now);
+            }
+
+            final long deadline = now - mStartMillis + Math.max(0, delayMillis);
+            final long deadlineTick = Math.max((deadline + TICK_MILLIS - 1) / TICK_MILLIS, mTick);
+            timeout.mRemainingRounds = (deadlineTick - mTick) / WHEEL_SIZE;
+            timeout.mBucket = (int) (deadlineTick & WHEEL_MASK);
+            link(timeout);
+            mPendingCount++;
+            mLock.notifyAll();
+        }
+        return timeout;
+    }
+
+    private void runWorker() {
+        synchronized (mLock) {
+            while (true) {
+                try {
+                    if (mPendingCount == 0) {
+                        mLock.wait();
+                        continue;
+                    }
+
+                    final long now = SystemClock.elapsedRealtime();
+                    final long waitMillis =
+                            mStartMillis + nextOccupiedTick() * TICK_MILLIS - now;
+                    if (waitMillis > 0) {
+                        // Woken early when a new timer is scheduled, so re-evaluate afterwards.
+                        mLock.wait(waitMillis);
+                        continue;
+                    }
+
+                    final long currentTick = currentTick(now);
+                    while (mTick <= currentTick && mPendingCount > 0) {
+                        expireBucket((int) (mTick & WHEEL_MASK));
+                        mTick++;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private long currentTick(final long now) {
+        return (now - mStartMillis) / TICK_MILLIS;
+    }
+
+    private long nextOccupiedTick() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            if (mBuckets[(int) ((mTick + i) & WHEEL_MASK)] != null) {
+                return mTick + i;
+            }
+        }
+        return mTick;
+    }
+
+    private void expireBucket(final int bucket) {
+        Timeout timeout = mBuckets[bucket];
+        while (timeout != null) {
+            final Timeout next = timeout.mNext;
+            if (timeout.mRemainingRounds <= 0) {
+                unlink(timeout);
+                mPendingCount--;
+                timeout.mState = Timeout.STATE_FIRED;
+                mMainHandler.post(timeout);
+            } else {
+                timeout.mRemainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void link(@NonNull final Timeout timeout) {
+        final Timeout head = mBuckets[timeout.mBucket];
+        timeout.mNext = head;
+        if (head != null) {
+            head.mPrev = timeout;
+        }
+        mBuckets[timeout.mBucket] = timeout;
+    }
+
+    private void unlink(@NonNull final Timeout timeout) {
+        if (timeout.mPrev != null) {
+            timeout.mPrev.mNext = timeout.mNext;
+        } else {
+            mBuckets[timeout.mBucket] = timeout.mNext;
+        }
+        if (timeout.mNext != null) {
+            timeout.mNext.mPrev = timeout.mPrev;
+        }
+        timeout.mPrev = null;
+        timeout.mNext = null;
+    }
+
+    /**
+     * Handle to a task scheduled on the {@link FacebookTimingWheel}.
+     */
+    final class Timeout implements Runnable {
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_FIRED = 1;
+        private static final int STATE_DONE = 2;
+
+        @NonNull
+        private final Runnable mTask;
+        private int mState = STATE_PENDING;
+        private int mBucket;
+        private long mRemainingRounds;
+        private Timeout mPrev;
+        private Timeout mNext;
+
+        private Timeout(@NonNull final Runnable task) {
+            mTask = task;
+        }
+
+        /**
+         * Cancels the task if it has not run yet. Safe to call more than once.
+         */
+        void cancel() {
+            synchronized (mLock) {
+                if (mState == STATE_PENDING) {
+                    unlink(this);
+                    mPendingCount--;
+                }
+                mState = STATE_DONE;
+            }
+        }
+
+        @Override
+        public void run() {
+            synchronized (mLock) {
+                if (mState != STATE_FIRED) {
+                    return;
+                }
+                mState = STATE_DONE;
+            }
+            mTask.run();
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.mopub.common.Preconditions;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
 
@@ -34,6 +35,9 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
     @NonNull
     final WeakHashMap<View, FacebookNativeViewHolder> mViewHolderMap;
 
+    @Nullable
+    private FacebookAdViewPreInflater mPreInflater;
+
     /**
      * Constructs a native ad renderer with a view binder.
      *
@@ -44,8 +48,30 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
         mViewHolderMap = new WeakHashMap<View, FacebookNativeViewHolder>();
     }
 
+    /**
+     * Inflates up to {@code poolSize} ad views for the given context while the main thread is
+     * idle, so that {@link #createAdView(Context, ViewGroup)} can hand them out without inflating
+     * them when an ad is shown. Pass 0 to turn pre-inflation off. Must be called on the main
+     * thread.
+     */
+    public void setPreInflatedViewCount(@NonNull final Context context, final int poolSize) {
+        final FacebookAdViewPreInflater oldPreInflater = mPreInflater;
+        if (oldPreInflater != null) {
+            oldPreInflater.clear();
+        }
+        mPreInflater = poolSize > 0
+                ? new FacebookAdViewPreInflater(context, mViewBinder.layoutId, poolSize)
+                : null;
+    }
+
     @Override
     public View createAdView(final Context context, final ViewGroup parent) {
+        final FacebookAdViewPreInflater preInflater = mPreInflater;
+        final View view = preInflater != null ? preInflater.poll(context) : null;
+        if (view != null) {
+            return view;
+        }
+
         return LayoutInflater
                 .from(context)
                 .inflate(mViewBinder.layoutId, parent, false);
@@ -85,7 +111,8 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
         final RelativeLayout adChoicesContainer =
                 facebookNativeViewHolder.getAdChoicesContainer();
         nativeAd.registerChildViewsForInteraction(facebookNativeViewHolder.getMainView(),
-                facebookNativeViewHolder.getMediaView(), facebookNativeViewHolder.getAdIconView());
+                facebookNativeViewHolder.getMediaView(), facebookNativeViewHolder.getAdIconView(),
+                facebookNativeViewHolder.getClickableViews());
         if (adChoicesContainer != null) {
             adChoicesContainer.removeAllViews();
             NativeAdLayout nativeAdLayout = null;
@@ -126,6 +153,10 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
         private AdIconView adIconView;
         @Nullable
         private TextView advertiserNameView;
+        // Collected on the first bind and reused, since the hierarchy of a recycled view is stable
+        // outside of the media, icon and AdChoices views
+        @Nullable
+        private List<View> stableClickableViews;
 
         // Use fromViewBinder instead of a constructor
         private FacebookNativeViewHolder() {
@@ -190,6 +221,18 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
         public TextView getAdvertiserNameView() {
             return advertiserNameView;
         }
+
+        @NonNull
+        List<View> getClickableViews() {
+            if (mainView == null) {
+                return FacebookNative.collectClickableViews(null);
+            }
+            if (stableClickableViews == null) {
+                stableClickableViews = FacebookNative.collectStableClickableViews(mainView,
+                        adChoicesContainer);
+            }
+            return FacebookNative.expandClickableViews(mainView, stableClickableViews);
+        }
     }
 
     public static class FacebookViewBinder {
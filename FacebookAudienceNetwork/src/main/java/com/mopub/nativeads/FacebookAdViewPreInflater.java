@@ -0,0 +1,171 @@
+package com.mopub.nativeads;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.annotation.LayoutRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.ArrayDeque;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Inflates ad layouts ahead of need for
+ * {@link FacebookAdRenderer#createAdView(Context, android.view.ViewGroup)}. Views are
+ * inflated on the main thread, one per idle pass of its message queue, so that inflation does not
+ * delay drawing and layouts that require the main thread still work. The pool is refilled every
+ * time a view is taken from it.
+ * <p>
+ * Pooled views hold a strong reference to the context. If it is an Activity, the pool is cleared
+ * when the Activity is destroyed. Must only be used from the main thread.
+ */
+class FacebookAdViewPreInflater implements MessageQueue.IdleHandler {
+    @Nullable
+    private Context mContext;
+    @LayoutRes
+    private final int mLayoutId;
+    private final int mPoolSize;
+
+    @NonNull
+    private final ArrayDeque<View> mViews = new ArrayDeque<>();
+    private boolean mIsRefillScheduled;
+    @Nullable
+    private DestroyCallback mDestroyCallback;
+
+    FacebookAdViewPreInflater(@NonNull final Context context,
+                              @LayoutRes final int layoutId,
+                              final int poolSize) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkUiThread();
+
+        mContext = context;
+        mLayoutId = layoutId;
+        mPoolSize = poolSize;
+
+        if (context instanceof Activity) {
+            mDestroyCallback = new DestroyCallback((Activity) context);
+            ((Activity) context).getApplication()
+                    .registerActivityLifecycleCallbacks(mDestroyCallback);
+        }
+        scheduleRefill();
+    }
+
+    /**
+     * @return a pre-inflated view for the given context, or null if none is available.
+     */
+    @Nullable
+    View poll(@NonNull final Context context) {
+        Preconditions.checkUiThread();
+
+        if (mContext != context) {
+            return null;
+        }
+
+        final View view = mViews.poll();
+        scheduleRefill();
+        return view;
+    }
+
+    /**
+     * Drops the pooled views and stops pre-inflating.
+     */
+    void clear() {
+        Preconditions.checkUiThread();
+
+        mContext = null;
+        mViews.clear();
+        if (mIsRefillScheduled) {
+            Looper.myQueue().removeIdleHandler(this);
+            mIsRefillScheduled = false;
+        }
+        if (mDestroyCallback != null) {
+            mDestroyCallback.mActivity.getApplication()
+                    .unregisterActivityLifecycleCallbacks(mDestroyCallback);
+            mDestroyCallback = null;
+        }
+    }
+
+    @Override
+    public boolean queueIdle() {
+        final Context context = mContext;
+        if (context == null || mViews.size() >= mPoolSize) {
+            mIsRefillScheduled = false;
+            return false;
+        }
+
+        try {
+            // A stand-in parent keeps the layout params of the root view. They are converted
+            // when the view is added to its real parent.
+            mViews.offer(LayoutInflater.from(context)
+                    .inflate(mLayoutId, new FrameLayout(context), false));
+        } catch (Exception e) {
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Unable to pre-inflate the ad layout. Falling " +
+                    "back to inflating on demand.", e);
+            clear();
+            return false;
+        }
+
+        mIsRefillScheduled = mViews.size() < mPoolSize;
+        return mIsRefillScheduled;
+    }
+
+    private void scheduleRefill() {
+        if (mIsRefillScheduled || mContext == null || mViews.size() >= mPoolSize) {
+            return;
+        }
+
+        Looper.myQueue().addIdleHandler(this);
+        mIsRefillScheduled = true;
+    }
+
+    private class DestroyCallback implements Application.ActivityLifecycleCallbacks {
+        @NonNull
+        private final Activity mActivity;
+
+        DestroyCallback(@NonNull final Activity activity) {
+            mActivity = activity;
+        }
+
+        @Override
+        public void onActivityDestroyed(final Activity activity) {
+            if (activity == mActivity) {
+                clear();
+            }
+        }
+
+        @Override
+        public void onActivityCreated(final Activity activity, final Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(final Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(final Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(final Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(final Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(final Activity activity, final Bundle outState) {
+        }
+    }
+}
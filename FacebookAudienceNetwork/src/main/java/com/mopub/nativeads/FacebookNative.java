@@ -2,9 +2,11 @@ package com.mopub.nativeads;
 
 import android.content.Context;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 
 import com.facebook.ads.Ad;
 import com.facebook.ads.AdError;
@@ -18,7 +20,9 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.FacebookAdapterConfiguration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +42,12 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
  * configuration.
  */
 public class FacebookNative extends CustomEventNative {
+    private static final int MAX_CLICKABLE_VIEW_DEPTH = 10;
+
+    // Only used on the main thread. The stacks are reused by every walk of an ad view.
+    private static final ArrayDeque<View> sViewStack = new ArrayDeque<>();
+    private static final ArrayDeque<Integer> sDepthStack = new ArrayDeque<>();
+
     private static final String PLACEMENT_ID_KEY = "placement_id";
     private static final String ADAPTER_NAME = FacebookNative.class.getSimpleName();
     private static AtomicBoolean sIsInitialized = new AtomicBoolean(false);
@@ -82,14 +92,12 @@ public class FacebookNative extends CustomEventNative {
     }
 
     private static void registerChildViewsForInteraction(final View view, final NativeAd nativeAd,
-                                                         final MediaView mediaView, final AdIconView adIconView) {
+                                                         final MediaView mediaView, final AdIconView adIconView,
+                                                         final List<View> clickableViews) {
         if (nativeAd == null) {
             return;
         }
 
-        final List<View> clickableViews = new ArrayList<>();
-        assembleChildViewsWithLimit(view, clickableViews, 10);
-
         if (clickableViews.size() == 1) {
             nativeAd.registerViewForInteraction(view, mediaView, adIconView);
         } else {
@@ -97,28 +105,129 @@ public class FacebookNative extends CustomEventNative {
         }
     }
 
-    private static void assembleChildViewsWithLimit(final View view,
-                                                    final List<View> clickableViews, final int limit) {
+    /**
+     * Collects the views of the ad view that should be clickable.
+     */
+    @NonNull
+    static List<View> collectClickableViews(final View view) {
         if (view == null) {
             MoPubLog.log(CUSTOM, "View given is null. Ignoring");
-            return;
+            return Collections.emptyList();
         }
 
-        if (limit <= 0) {
-            MoPubLog.log(CUSTOM, "Depth limit reached; adding this view regardless of its type.");
-            clickableViews.add(view);
-            return;
+        final List<View> clickableViews = new ArrayList<>();
+        assembleChildViewsWithLimit(view, clickableViews, MAX_CLICKABLE_VIEW_DEPTH, false, null);
+        return clickableViews;
+    }
+
+    /**
+     * Collects the clickable views of the ad view, stopping at the media and icon views. Those
+     * populate their own children for each ad, so the result can be cached for a recycled ad view
+     * and passed to {@link #expandClickableViews(View, List)} on every bind.
+     * <p>
+     * The AdChoices container, if any, is added as a single view. Its AdOptionsView is replaced
+     * for each ad, so it is never walked and the cached result is the same for every bind.
+     */
+    @NonNull
+    static List<View> collectStableClickableViews(final View view,
+                                                  @Nullable final View adChoicesContainer) {
+        if (view == null) {
+            MoPubLog.log(CUSTOM, "View given is null. Ignoring");
+            return Collections.emptyList();
         }
 
-        if (view instanceof ViewGroup && ((ViewGroup) view).getChildCount() > 0) {
-            final ViewGroup vg = (ViewGroup) view;
-            for (int i = 0; i < vg.getChildCount(); i++) {
-                assembleChildViewsWithLimit(vg.getChildAt(i), clickableViews, limit - 1);
+        final List<View> stableViews = new ArrayList<>();
+        assembleChildViewsWithLimit(view, stableViews, MAX_CLICKABLE_VIEW_DEPTH, true,
+                adChoicesContainer);
+        return stableViews;
+    }
+
+    /**
+     * @return the clickable views of the ad view, given its cached stable views. The media and
+     * icon views are walked again, so the result is the same as
+     * {@link #collectClickableViews(View)} apart from the AdChoices container.
+     */
+    @NonNull
+    static List<View> expandClickableViews(@NonNull final View view,
+                                           @NonNull final List<View> stableViews) {
+        List<View> clickableViews = null;
+        for (int i = 0; i < stableViews.size(); i++) {
+            final View stableView = stableViews.get(i);
+            if (!(stableView instanceof MediaView) && !(stableView instanceof AdIconView)) {
+                if (clickableViews != null) {
+                    clickableViews.add(stableView);
+                }
+                continue;
             }
-            return;
+
+            if (clickableViews == null) {
+                clickableViews = new ArrayList<>(stableViews.subList(0, i));
+            }
+            assembleChildViewsWithLimit(stableView, clickableViews,
+                    MAX_CLICKABLE_VIEW_DEPTH - getDepth(view, stableView), false, null);
         }
+        return clickableViews != null ? clickableViews : stableViews;
+    }
 
-        clickableViews.add(view);
+    private static int getDepth(@NonNull final View root, @NonNull final View view) {
+        int depth = 0;
+        ViewParent parent = view.getParent();
+        View current = view;
+        while (current != root && parent instanceof View) {
+            depth++;
+            current = (View) parent;
+            parent = current.getParent();
+        }
+        return depth;
+    }
+
+    /**
+     * Collects the leaf views of the hierarchy in depth-first order without recursion, reusing the
+     * traversal stacks. Views deeper than {@code limit} are added regardless of their type. If
+     * {@code stopAtAdViews} is set, the media and icon views are added without their children.
+     * The {@code opaqueView}, if any, is always added without its children.
+     */
+    private static void assembleChildViewsWithLimit(@NonNull final View view,
+                                                    @NonNull final List<View> clickableViews,
+                                                    final int limit,
+                                                    final boolean stopAtAdViews,
+                                                    @Nullable final View opaqueView) {
+        Preconditions.checkUiThread();
+
+        final ArrayDeque<View> viewStack = sViewStack;
+        final ArrayDeque<Integer> depthStack = sDepthStack;
+        viewStack.clear();
+        depthStack.clear();
+
+        viewStack.push(view);
+        depthStack.push(0);
+        while (!viewStack.isEmpty()) {
+            final View current = viewStack.pop();
+            final int depth = depthStack.pop();
+
+            if (depth >= limit) {
+                MoPubLog.log(CUSTOM, "Depth limit reached; adding this view regardless of its type.");
+                clickableViews.add(current);
+                continue;
+            }
+
+            final boolean isAdView = current instanceof MediaView || current instanceof AdIconView;
+            if (current instanceof ViewGroup && ((ViewGroup) current).getChildCount() > 0
+                    && !(stopAtAdViews && isAdView) && current != opaqueView) {
+                final ViewGroup vg = (ViewGroup) current;
+                // Push in reverse so that children are visited in order
+                for (int i = vg.getChildCount() - 1; i >= 0; i--) {
+                    final View child = vg.getChildAt(i);
+                    if (child != null) {
+                        viewStack.push(child);
+                        depthStack.push(depth + 1);
+                    }
+                }
+                continue;
+            }
+
+            clickableViews.add(current);
+        }
     }
 
     static class FacebookVideoEnabledNativeAd extends BaseNativeAd implements NativeAdListener {
@@ -282,7 +391,15 @@ public class FacebookNative extends CustomEventNative {
 
         void registerChildViewsForInteraction(final View view, final MediaView mediaView,
                                               final AdIconView adIconView) {
-            FacebookNative.registerChildViewsForInteraction(view, mNativeAd, mediaView, adIconView);
+            registerChildViewsForInteraction(view, mediaView, adIconView,
+                    collectClickableViews(view));
+        }
+
+        void registerChildViewsForInteraction(final View view, final MediaView mediaView,
+                                              final AdIconView adIconView,
+                                              final List<View> clickableViews) {
+            FacebookNative.registerChildViewsForInteraction(view, mNativeAd, mediaView, adIconView,
+                    clickableViews);
         }
 
         @Override
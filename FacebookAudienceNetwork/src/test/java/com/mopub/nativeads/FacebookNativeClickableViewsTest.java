@@ -0,0 +1,135 @@
+package com.mopub.nativeads;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class FacebookNativeClickableViewsTest {
+    private static final int BRANCHING = 3;
+
+    private Activity activity;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).create().get();
+    }
+
+    @Test
+    public void collectClickableViews_shouldCollectLeavesInOrder() {
+        final LinearLayout root = new LinearLayout(activity);
+        final TextView first = new TextView(activity);
+        final FrameLayout group = new FrameLayout(activity);
+        final TextView second = new TextView(activity);
+        final FrameLayout emptyGroup = new FrameLayout(activity);
+        root.addView(first);
+        root.addView(group);
+        group.addView(second);
+        root.addView(emptyGroup);
+
+        final List<View> expected = new ArrayList<>();
+        expected.add(first);
+        expected.add(second);
+        expected.add(emptyGroup);
+        assertEquals(expected, FacebookNative.collectClickableViews(root));
+    }
+
+    @Test
+    public void collectClickableViews_withDeepHierarchy_shouldStopAtDepthLimit() {
+        final ViewGroup root = new FrameLayout(activity);
+        ViewGroup parent = root;
+        for (int i = 0; i < 12; i++) {
+            final ViewGroup child = new FrameLayout(activity);
+            parent.addView(child);
+            parent = child;
+        }
+
+        final List<View> clickableViews = FacebookNative.collectClickableViews(root);
+
+        assertEquals(1, clickableViews.size());
+        assertEquals(10, getDepth(root, clickableViews.get(0)));
+    }
+
+    @Test
+    public void expandClickableViews_withoutMediaOrIconViews_shouldReturnCachedList() {
+        final View root = createHierarchy(6);
+        final List<View> stableViews = FacebookNative.collectStableClickableViews(root, null);
+
+        assertSame(stableViews, FacebookNative.expandClickableViews(root, stableViews));
+        assertEquals(FacebookNative.collectClickableViews(root), stableViews);
+    }
+
+    @Test
+    public void collectStableClickableViews_shouldAddAdChoicesContainerWithoutItsChildren() {
+        final LinearLayout root = new LinearLayout(activity);
+        final TextView title = new TextView(activity);
+        final FrameLayout adChoicesContainer = new FrameLayout(activity);
+        root.addView(title);
+        root.addView(adChoicesContainer);
+        adChoicesContainer.addView(new TextView(activity));
+
+        final List<View> expected = new ArrayList<>();
+        expected.add(title);
+        expected.add(adChoicesContainer);
+        assertEquals(expected,
+                FacebookNative.collectStableClickableViews(root, adChoicesContainer));
+    }
+
+    @Test
+    public void expandClickableViews_whenAdChoicesContainerIsRefilled_shouldMatchFirstBind() {
+        final LinearLayout root = new LinearLayout(activity);
+        final FrameLayout adChoicesContainer = new FrameLayout(activity);
+        root.addView(createHierarchy(2));
+        root.addView(adChoicesContainer);
+
+        // First bind: the container is still empty
+        final List<View> stableViews =
+                FacebookNative.collectStableClickableViews(root, adChoicesContainer);
+        final List<View> firstBindViews =
+                new ArrayList<>(FacebookNative.expandClickableViews(root, stableViews));
+
+        // Later binds: the container holds the AdOptionsView of the previous ad
+        adChoicesContainer.addView(new TextView(activity));
+
+        assertEquals(firstBindViews, FacebookNative.expandClickableViews(root, stableViews));
+        assertEquals(stableViews,
+                FacebookNative.collectStableClickableViews(root, adChoicesContainer));
+    }
+
+    private View createHierarchy(final int depth) {
+        if (depth == 0) {
+            return new TextView(activity);
+        }
+
+        final LinearLayout group = new LinearLayout(activity);
+        for (int i = 0; i < BRANCHING; i++) {
+            group.addView(createHierarchy(depth - 1));
+        }
+        return group;
+    }
+
+    private static int getDepth(final View root, final View view) {
+        int depth = 0;
+        View current = view;
+        while (current != root) {
+            current = (View) current.getParent();
+            depth++;
+        }
+        return depth;
+    }
+}
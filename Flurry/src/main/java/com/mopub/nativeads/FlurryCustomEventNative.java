@@ -1,6 +1,7 @@
 package com.mopub.nativeads;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -18,9 +19,13 @@ import com.mopub.mobileads.FlurryAdapterConfiguration;
 import com.mopub.mobileads.FlurryAgentWrapper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
@@ -90,8 +95,13 @@ public final class FlurryCustomEventNative extends CustomEventNative {
     @NonNull
     private FlurryAdapterConfiguration mFlurryAdapterConfiguration;
 
-    /* Static reference of the ads to ensure they don't get garbage collected */
-    private final static List<FlurryAdNative> sFlurryNativeAds = new ArrayList<>();
+    private static final int MAX_RETAINED_ADS = 32;
+    private static final long RETAINED_AD_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    /* Static reference of the ads being fetched to ensure they don't get garbage collected, mapped
+     * to the time they were retained */
+    private final static ConcurrentHashMap<FlurryAdNative, Long> sFlurryNativeAds =
+            new ConcurrentHashMap<>();
 
     public FlurryCustomEventNative() {
         mFlurryAdapterConfiguration = new FlurryAdapterConfiguration();
@@ -138,8 +148,34 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         }
     }
 
-    synchronized private static void mapNativeAd(@NonNull final FlurryBaseNativeAd mopubSupportedAd,
-                                                 @NonNull final FlurryAdNative flurryAdNative) {
+    /**
+     * Keeps the ad reachable until it is fetched, fails or is destroyed. Ads that never got a
+     * callback are released once they time out, so missed callbacks cannot grow the set forever.
+     */
+    private static void retainAd(@NonNull final FlurryAdNative flurryAdNative) {
+        final long now = SystemClock.elapsedRealtime();
+        if (sFlurryNativeAds.size() >= MAX_RETAINED_ADS) {
+            final Iterator<Map.Entry<FlurryAdNative, Long>> iterator =
+                    sFlurryNativeAds.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().getValue() > RETAINED_AD_TIMEOUT_MILLIS) {
+                    iterator.remove();
+                }
+            }
+        }
+        sFlurryNativeAds.put(flurryAdNative, now);
+    }
+
+    private static void releaseAd(@Nullable final FlurryAdNative flurryAdNative) {
+        if (flurryAdNative != null) {
+            sFlurryNativeAds.remove(flurryAdNative);
+        }
+    }
+
+    // Each ad is mapped once from its own fetch callback and only writes to its own fields, so no
+    // lock is needed here.
+    private static void mapNativeAd(@NonNull final FlurryBaseNativeAd mopubSupportedAd,
+                                    @NonNull final FlurryAdNative flurryAdNative) {
         FlurryAdNativeAsset coverImageAsset = flurryAdNative.getAsset(ASSET_SEC_HQ_IMAGE);
         FlurryAdNativeAsset iconImageAsset = flurryAdNative.getAsset(ASSET_SEC_IMAGE);
 
@@ -195,6 +231,11 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         }
     }
 
+    @NonNull
+    private static List<String> toUrlList(@Nullable final String url) {
+        return url != null ? Collections.singletonList(url) : Collections.<String>emptyList();
+    }
+
     @Nullable
     private static Double getStarRatingValue(@Nullable final String appRatingString) {
         // App rating String should be of the form X/Y. E.g. 80/100
@@ -243,7 +284,7 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         }
 
         // Add to requested ad list
-        sFlurryNativeAds.add(flurryAdNative);
+        retainAd(flurryAdNative);
 
         flurryNativeAd.fetchAd();
         MoPubLog.log(LOAD_ATTEMPTED, ADAPTER_NAME);
@@ -273,6 +314,8 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         private final CustomEventNativeListener mCustomEventNativeListener;
         @NonNull
         private final FlurryAdNative mFlurryAdNative;
+        @Nullable
+        private FlurryNativeImagePrecacher.Request mPrecacheRequest;
         private final FlurryAdNativeListener mFlurryNativelistener = new FlurryBaseAdListener(this) {
             @Override
             public void onClicked(final FlurryAdNative flurryAdNative) {
@@ -331,6 +374,11 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         public void destroy() {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "destroy(" + mFlurryAdNative.toString() + ") started.");
 
+            if (mPrecacheRequest != null) {
+                mPrecacheRequest.cancel();
+                mPrecacheRequest = null;
+            }
+            releaseAd(mFlurryAdNative);
             mFlurryAdNative.destroy();
 
             FlurryAgentWrapper.getInstance().endSession(mContext);
@@ -380,10 +428,12 @@ public final class FlurryCustomEventNative extends CustomEventNative {
 
         @Override
         public void precacheImages() {
-            NativeImageHelper.preCacheImages(mContext, getImageUrls(),
+            mPrecacheRequest = FlurryNativeImagePrecacher.getInstance().preCacheImages(mContext,
+                    toUrlList(getIconImageUrl()), toUrlList(getMainImageUrl()),
                     new NativeImageHelper.ImageListener() {
                         @Override
                         public void onImagesCached() {
+                            mPrecacheRequest = null;
                             MoPubLog.log(CUSTOM, ADAPTER_NAME, "preCacheImages: Ad image cached.");
                             mCustomEventNativeListener.onNativeAdLoaded(FlurryStaticNativeAd.this);
 
@@ -392,6 +442,7 @@ public final class FlurryCustomEventNative extends CustomEventNative {
 
                         @Override
                         public void onImagesFailedToCache(final NativeErrorCode errorCode) {
+                            mPrecacheRequest = null;
                             mCustomEventNativeListener.onNativeAdFailed(errorCode);
 
                             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
@@ -419,6 +470,8 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         final CustomEventNativeListener mCustomEventNativeListener;
         private @NonNull
         final FlurryAdNative mFlurryAdNative;
+        @Nullable
+        private FlurryNativeImagePrecacher.Request mPrecacheRequest;
         private final FlurryAdNativeListener mFlurryNativelistener = new FlurryBaseAdListener(this) {
             @Override
             public void onClicked(final FlurryAdNative flurryAdNative) {
@@ -491,6 +544,11 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         @Override
         public void destroy() {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "destroy(" + mFlurryAdNative.toString() + ") started.");
+            if (mPrecacheRequest != null) {
+                mPrecacheRequest.cancel();
+                mPrecacheRequest = null;
+            }
+            releaseAd(mFlurryAdNative);
             mFlurryAdNative.destroy();
 
             FlurryAgentWrapper.getInstance().endSession(mContext);
@@ -516,10 +574,12 @@ public final class FlurryCustomEventNative extends CustomEventNative {
 
         @Override
         public void precacheImages() {
-            NativeImageHelper.preCacheImages(mContext, getImageUrls(),
+            mPrecacheRequest = FlurryNativeImagePrecacher.getInstance().preCacheImages(mContext,
+                    toUrlList(getIconImageUrl()), toUrlList(getMainImageUrl()),
                     new NativeImageHelper.ImageListener() {
                         @Override
                         public void onImagesCached() {
+                            mPrecacheRequest = null;
                             MoPubLog.log(CUSTOM, ADAPTER_NAME, "preCacheImages: Ad image cached.");
 
                             mCustomEventNativeListener.onNativeAdLoaded(
@@ -530,6 +590,7 @@ public final class FlurryCustomEventNative extends CustomEventNative {
 
                         @Override
                         public void onImagesFailedToCache(final NativeErrorCode errorCode) {
+                            mPrecacheRequest = null;
                             mCustomEventNativeListener.onNativeAdFailed(errorCode);
 
                             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
@@ -666,7 +727,7 @@ public final class FlurryCustomEventNative extends CustomEventNative {
         public void onFetched(final FlurryAdNative flurryAdNative) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "onFetched: Flurry native ad fetched successfully!");
             mapNativeAd(mBaseNativeAd, flurryAdNative);
-            sFlurryNativeAds.remove(flurryAdNative);
+            releaseAd(flurryAdNative);
         }
 
         @Override
@@ -711,7 +772,7 @@ public final class FlurryCustomEventNative extends CustomEventNative {
 
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "onError: Flurry native ad not available. " +
                     "Error type: %s. Error code: %s", adErrorType.toString(), errorCode);
-            sFlurryNativeAds.remove(flurryAdNative);
+            releaseAd(flurryAdNative);
         }
     }
 }
@@ -23,6 +23,8 @@ public class FlurryNativeAdRenderer implements
     private final FlurryViewBinder mViewBinder;
     @NonNull
     private final WeakHashMap<View, FlurryNativeViewHolder> mViewHolderMap;
+    @Nullable
+    private FlurryAdViewPreInflater mPreInflater;
 
     public FlurryNativeAdRenderer(@NonNull final FlurryViewBinder viewBinder) {
         mViewBinder = viewBinder;
@@ -32,10 +34,33 @@ public class FlurryNativeAdRenderer implements
     @NonNull
     @Override
     public View createAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
+        final FlurryAdViewPreInflater preInflater = mPreInflater;
+        final View view = preInflater != null ? preInflater.poll(context) : null;
+        if (view != null) {
+            return view;
+        }
+
         return LayoutInflater.from(context).inflate(
                 mViewBinder.staticViewBinder.layoutId, parent, false);
     }
 
+    /**
+     * Inflates up to {@code poolSize} ad views for the given context while the main thread is
+     * idle, so that {@link #createAdView(Context, ViewGroup)} can hand them out without inflating
+     * them when an ad is shown. Pass 0 to turn pre-inflation off. Must be called on the main
+     * thread.
+     */
+    public void setPreInflatedViewCount(@NonNull final Context context, final int poolSize) {
+        final FlurryAdViewPreInflater oldPreInflater = mPreInflater;
+        if (oldPreInflater != null) {
+            oldPreInflater.clear();
+        }
+        mPreInflater = poolSize > 0
+                ? new FlurryAdViewPreInflater(context,
+                        mViewBinder.staticViewBinder.layoutId, poolSize)
+                : null;
+    }
+
     @Override
     public void renderAdView(@NonNull View view,
                              @NonNull FlurryCustomEventNative.FlurryVideoEnabledNativeAd ad) {
@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -70,7 +71,10 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
+        boolean networkInitializationStarted = false;
 
         synchronized (IronSourceAdapterConfiguration.class) {
             try {
@@ -90,6 +94,7 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
                                 IronSource.AD_UNIT.INTERSTITIAL);
 
                         networkInitializationSucceeded = true;
+                        networkInitializationStarted = true;
                     }
                 } else if (!(context instanceof Activity)) {
                     MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource's initialization via " +
@@ -102,9 +107,15 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
         }
 
         if (networkInitializationSucceeded) {
+            // Demand-only initialization has no completion callback
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization " +
+                    (networkInitializationStarted ? "started" : "succeeded") + " in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(IronSourceAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(IronSourceAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.text.TextUtils;
 
@@ -46,10 +44,9 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
     // This is the placement name used inside ironSource SDK
     private String mPlacementName = null;
     private static boolean mInitInterstitialSuccessfully;
-    private static Handler sHandler;
     private String applicationKey = "";
 
-    private static CustomEventInterstitialListener mMoPubListener;
+    private CustomEventInterstitialListener mMoPubListener;
 
     @NonNull
     private IronSourceAdapterConfiguration mIronSourceAdapterConfiguration;
@@ -72,7 +69,6 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
 
         try {
             mMoPubListener = customEventInterstitialListener;
-            sHandler = new Handler(Looper.getMainLooper());
 
             if (!(context instanceof Activity)) {
                 // Context not an Activity context, log the reason for failure and fail the
@@ -106,6 +102,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
             }
 
             if (!TextUtils.isEmpty(applicationKey)) {
+                IronSourceInterstitialRouter.getInstance().addListener(mInstanceId, this);
                 initIronSourceSDK(((Activity) context), applicationKey);
                 loadInterstitial();
 
@@ -153,6 +150,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
 
     @Override
     protected void onInvalidate() {
+        IronSourceInterstitialRouter.getInstance().removeListener(mInstanceId, this);
         mMoPubListener = null;
     }
 
@@ -161,7 +159,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
      **/
 
     private void initIronSourceSDK(Activity activity, String appKey) {
-        IronSource.setISDemandOnlyInterstitialListener(this);
+        IronSource.setISDemandOnlyInterstitialListener(IronSourceInterstitialRouter.getInstance());
 
         if (!mInitInterstitialSuccessfully) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource initialization succeeded for Interstitial");
@@ -182,7 +180,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
     }
 
     private void sendMoPubInterstitialFailed(final MoPubErrorCode errorCode) {
-        sHandler.post(new Runnable() {
+        IronSourceMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 MoPubLog.log(LOAD_FAILED, errorCode.getIntCode(),
@@ -230,7 +228,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
         if (!mInstanceId.equals(instanceId)) {
             return;
         }
-        sHandler.post(new Runnable() {
+        IronSourceMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
@@ -257,7 +255,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
     public void onInterstitialAdOpened(String instanceId) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Interstitial opened ad for instance " + instanceId);
 
-        sHandler.post(new Runnable() {
+        IronSourceMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 MoPubLog.log(SHOW_SUCCESS, ADAPTER_NAME);
@@ -273,7 +271,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
     public void onInterstitialAdClosed(String instanceId) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Interstitial closed ad for instance " + instanceId);
 
-        sHandler.post(new Runnable() {
+        IronSourceMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 if (mMoPubListener != null) {
@@ -299,7 +297,7 @@ public class IronSourceInterstitial extends CustomEventInterstitial implements I
     public void onInterstitialAdClicked(String instanceId) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Interstitial clicked ad for instance " + instanceId);
 
-        sHandler.post(new Runnable() {
+        IronSourceMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 MoPubLog.log(CLICKED, ADAPTER_NAME);
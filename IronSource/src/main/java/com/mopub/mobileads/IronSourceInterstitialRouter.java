@@ -0,0 +1,110 @@
+package com.mopub.mobileads;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyInterstitialListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes ironSource demand-only interstitial callbacks to the listener registered for each
+ * instance ID. ironSource accepts a single interstitial listener, so this router is registered
+ * with the SDK once and lets several instances load in parallel.
+ */
+class IronSourceInterstitialRouter implements ISDemandOnlyInterstitialListener {
+    private static final IronSourceInterstitialRouter sInstance = new IronSourceInterstitialRouter();
+
+    @NonNull
+    private final ConcurrentHashMap<String, ISDemandOnlyInterstitialListener> mListeners =
+            new ConcurrentHashMap<>();
+
+    @NonNull
+    static IronSourceInterstitialRouter getInstance() {
+        return sInstance;
+    }
+
+    private IronSourceInterstitialRouter() {
+    }
+
+    @Override
+    public void onInterstitialAdReady(@Nullable String instanceId) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdReady(instanceId);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdLoadFailed(@Nullable String instanceId,
+                                           @Nullable IronSourceError ironSourceError) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdLoadFailed(instanceId, ironSourceError);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdOpened(@Nullable String instanceId) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdOpened(instanceId);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdClosed(@Nullable String instanceId) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdClosed(instanceId);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdShowSucceeded(@Nullable String instanceId) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdShowSucceeded(instanceId);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdShowFailed(@Nullable String instanceId,
+                                           @Nullable IronSourceError ironSourceError) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdShowFailed(instanceId, ironSourceError);
+        }
+    }
+
+    @Override
+    public void onInterstitialAdClicked(@Nullable String instanceId) {
+        ISDemandOnlyInterstitialListener listener = getListener(instanceId);
+        if (listener != null) {
+            listener.onInterstitialAdClicked(instanceId);
+        }
+    }
+
+    void addListener(@Nullable String instanceId,
+                     @Nullable ISDemandOnlyInterstitialListener listener) {
+        if (instanceId != null && listener != null) {
+            mListeners.put(instanceId, listener);
+        }
+    }
+
+    /**
+     * Removes the listener of the instance, unless another listener has replaced it since.
+     */
+    void removeListener(@Nullable String instanceId,
+                        @Nullable ISDemandOnlyInterstitialListener listener) {
+        if (instanceId != null && listener != null) {
+            mListeners.remove(instanceId, listener);
+        }
+    }
+
+    @Nullable
+    private ISDemandOnlyInterstitialListener getListener(@Nullable String instanceId) {
+        return instanceId != null ? mListeners.get(instanceId) : null;
+    }
+}
@@ -55,8 +55,8 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
     private String mInstanceId = "0";
     // This is the placement name used inside ironSource SDK
     private String mPlacementName = null;
-    // Indicates if IronSource RV adapter is in its first init flow
-    private static boolean mIsFirstInitFlow = true;
+    // Indicates if the IronSource SDK has been initialized for rewarded video
+    private static boolean sIsSdkInitialized;
 
     @NonNull
     private IronSourceAdapterConfiguration mIronSourceAdapterConfiguration;
@@ -112,9 +112,11 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
                 applicationKey = serverExtras.get(APPLICATION_KEY);
             }
             setCredentials(serverExtras);
+
+            final boolean wasSdkInitialized = sIsSdkInitialized;
             initIronSourceSDK(launcherActivity, applicationKey);
 
-            return mIsFirstInitFlow;
+            return !wasSdkInitialized;
         } catch (Exception e) {
             MoPubLog.log(CUSTOM_WITH_THROWABLE, e);
 
@@ -131,22 +133,14 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
         setCredentials(serverExtras);
         mIronSourceAdapterConfiguration.setCachedInitializationParameters(activity, serverExtras);
 
-        if (!mIsFirstInitFlow) {
-            if (hasVideoAvailable()) {
-                onRewardedVideoLoadSuccess(IronSourceRewardedVideo.class, mInstanceId);
-
-                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video loaded successfully for " +
-                        "instance " + mInstanceId);
-            } else {
-                onRewardedVideoLoadFailure(IronSourceRewardedVideo.class, mInstanceId, MoPubErrorCode.NETWORK_NO_FILL);
-
-                MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
-                        MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                        MoPubErrorCode.NETWORK_NO_FILL);
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video failed to load for instance "
-                        + mInstanceId);
-            }
+        // ironSource loads every instance once it is initialized. Instances that have already
+        // reported their availability are resolved from it, the others wait for their callback.
+        if (IronSourceRewardedVideoInventory.getInstance().startLoad(mInstanceId)) {
+            logLoadLatency(mInstanceId);
+            notifyLoadResult(mInstanceId, hasVideoAvailable());
+        } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Waiting for IronSource Rewarded Video availability " +
+                    "for instance " + mInstanceId);
         }
     }
 
@@ -188,10 +182,12 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
         if (!TextUtils.isEmpty(appKey)) {
             IronSource.setISDemandOnlyRewardedVideoListener(this);
 
-            if (mIsFirstInitFlow) {
+            if (!sIsSdkInitialized) {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource initialization succeeded for RewardedVideo");
                 IronSource.setMediationType(MEDIATION_TYPE + ADAPTER_VERSION);
+                IronSourceRewardedVideoInventory.getInstance().onInitStarted();
                 IronSource.initISDemandOnly(activity, appKey, IronSource.AD_UNIT.REWARDED_VIDEO);
+                sIsSdkInitialized = true;
 
                 MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
             }
@@ -220,6 +216,24 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
         }
     }
 
+    private static void notifyLoadResult(@NonNull final String instanceId, final boolean available) {
+        if (available) {
+            onRewardedVideoLoadSuccess(IronSourceRewardedVideo.class, instanceId);
+
+            MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video loaded successfully for " +
+                    "instance " + instanceId);
+        } else {
+            onRewardedVideoLoadFailure(IronSourceRewardedVideo.class, instanceId, MoPubErrorCode.NETWORK_NO_FILL);
+
+            MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
+                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                    MoPubErrorCode.NETWORK_NO_FILL);
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video failed to load for instance "
+                    + instanceId);
+        }
+    }
+
     private MoPubErrorCode getMoPubErrorMessage(IronSourceError ironSourceError) {
         if (ironSourceError == null) {
             return MoPubErrorCode.INTERNAL_ERROR;
@@ -252,35 +266,27 @@ public class IronSourceRewardedVideo extends CustomEventRewardedVideo implements
     @Override
     public void onRewardedVideoAvailabilityChanged(String instanceId, boolean available) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video changed availability: " + available +
-                " for instance " + mInstanceId);
+                " for instance " + instanceId);
 
-        // Ignore callback
-        if (!mInstanceId.equals(instanceId)) {
+        if (instanceId == null) {
             return;
         }
 
-        // Invoke only for first load, ignore for all others and rely on 'hasAdAvailable'
-        if (mIsFirstInitFlow) {
-            if (available) {
-                onRewardedVideoLoadSuccess(IronSourceRewardedVideo.class, mInstanceId);
-
-                MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video loaded successfully for " +
-                        "instance " + mInstanceId);
-            } else {
-                onRewardedVideoLoadFailure(IronSourceRewardedVideo.class, mInstanceId, MoPubErrorCode.NETWORK_NO_FILL);
-
-                MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
-                        MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                        MoPubErrorCode.NETWORK_NO_FILL);
-
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video failed to load for instance "
-                        + mInstanceId);
-            }
-            mIsFirstInitFlow = false;
+        // Every instance is reported through this listener. Only loads that are waiting for the
+        // instance are notified, later loads rely on the recorded availability.
+        if (IronSourceRewardedVideoInventory.getInstance().onAvailabilityChanged(instanceId, available)) {
+            logLoadLatency(instanceId);
+            notifyLoadResult(instanceId, available);
         }
     }
 
+    private static void logLoadLatency(@NonNull final String instanceId) {
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource Rewarded Video average load latency for " +
+                "instance " + instanceId + ": " +
+                IronSourceRewardedVideoInventory.getInstance().getAverageLoadLatencyMillis(instanceId) +
+                " ms");
+    }
+
     //Invoked when the RewardedVideo ad view has opened.
     @Override
     public void onRewardedVideoAdOpened(String instanceId) {
@@ -0,0 +1,134 @@
+package com.mopub.mobileads;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Availability of every ironSource demand-only rewarded video instance. ironSource loads all the
+ * demand-only instances of the app in parallel once it is initialized and reports each of them
+ * through the shared rewarded video listener, so the availability of instances that are not being
+ * loaded by MoPub yet is recorded too. Loads of an instance that has already reported its
+ * availability resolve immediately, and only loads of an instance that has not reported yet wait
+ * for its callback.
+ */
+final class IronSourceRewardedVideoInventory {
+    private static final long NOT_SET = -1;
+
+    private static final IronSourceRewardedVideoInventory sInstance =
+            new IronSourceRewardedVideoInventory();
+
+    @NonNull
+    private final ConcurrentHashMap<String, InstanceState> mInstanceStates = new ConcurrentHashMap<>();
+    private volatile long mInitStartMillis = NOT_SET;
+
+    @NonNull
+    static IronSourceRewardedVideoInventory getInstance() {
+        return sInstance;
+    }
+
+    private IronSourceRewardedVideoInventory() {
+    }
+
+    /**
+     * Records the start of the ironSource initialization, from which the first load of every
+     * instance is timed.
+     */
+    void onInitStarted() {
+        mInitStartMillis = SystemClock.elapsedRealtime();
+    }
+
+    /**
+     * Starts a load of the instance.
+     *
+     * @return true if the instance has reported its availability and the load can be resolved
+     * immediately, or false if the load must wait for {@link #onAvailabilityChanged}.
+     */
+    boolean startLoad(@NonNull final String instanceId) {
+        Preconditions.checkNotNull(instanceId);
+
+        return getOrCreateInstanceState(instanceId).startLoad();
+    }
+
+    /**
+     * Records the availability reported by ironSource.
+     *
+     * @return whether a load of the instance was waiting for it.
+     */
+    boolean onAvailabilityChanged(@NonNull final String instanceId, final boolean available) {
+        Preconditions.checkNotNull(instanceId);
+
+        return getOrCreateInstanceState(instanceId).onAvailabilityChanged(available,
+                mInitStartMillis);
+    }
+
+    /**
+     * @return the average time from a load request, or from initialization for the first load,
+     * to its result. Loads resolved from the recorded availability count as immediate.
+     */
+    long getAverageLoadLatencyMillis(@NonNull final String instanceId) {
+        Preconditions.checkNotNull(instanceId);
+
+        final InstanceState state = mInstanceStates.get(instanceId);
+        return state != null ? state.getAverageLoadLatencyMillis() : 0;
+    }
+
+    @NonNull
+    private InstanceState getOrCreateInstanceState(@NonNull final String instanceId) {
+        InstanceState state = mInstanceStates.get(instanceId);
+        if (state == null) {
+            final InstanceState newState = new InstanceState();
+            state = mInstanceStates.putIfAbsent(instanceId, newState);
+            if (state == null) {
+                state = newState;
+            }
+        }
+        return state;
+    }
+
+    private static class InstanceState {
+        @Nullable
+        private Boolean mAvailable;
+        private long mLoadStartMillis = NOT_SET;
+        private boolean mIsLoadPending;
+        private int mLoadCount;
+        private long mTotalLoadLatencyMillis;
+
+        synchronized boolean startLoad() {
+            if (mAvailable != null) {
+                mLoadCount++;
+                return true;
+            }
+            mIsLoadPending = true;
+            if (mLoadStartMillis == NOT_SET) {
+                mLoadStartMillis = SystemClock.elapsedRealtime();
+            }
+            return false;
+        }
+
+        synchronized boolean onAvailabilityChanged(final boolean available,
+                                                   final long initStartMillis) {
+            final long startMillis = mAvailable == null && initStartMillis != NOT_SET
+                    ? initStartMillis
+                    : mLoadStartMillis;
+            if (startMillis != NOT_SET) {
+                mLoadCount++;
+                mTotalLoadLatencyMillis += SystemClock.elapsedRealtime() - startMillis;
+            }
+            mLoadStartMillis = NOT_SET;
+            mAvailable = available;
+
+            final boolean wasLoadPending = mIsLoadPending;
+            mIsLoadPending = false;
+            return wasLoadPending;
+        }
+
+        synchronized long getAverageLoadLatencyMillis() {
+            return mLoadCount > 0 ? mTotalLoadLatencyMillis / mLoadCount : 0;
+        }
+    }
+}
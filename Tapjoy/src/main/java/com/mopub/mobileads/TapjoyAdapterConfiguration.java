@@ -1,6 +1,7 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -11,7 +12,6 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.tapjoy.BuildConfig;
 
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.Tapjoy;
 
 import java.util.Map;
@@ -65,7 +65,11 @@ public class TapjoyAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
+        // Set when the connection gate times and reports the result instead
+        boolean isConnectionPending = false;
 
         synchronized (TapjoyAdapterConfiguration.class) {
             try {
@@ -75,20 +79,28 @@ public class TapjoyAdapterConfiguration extends BaseAdapterConfiguration {
                     final String sdkKey = configuration.get(SDK_KEY);
 
                     if (!TextUtils.isEmpty(sdkKey)) {
-                        Tapjoy.connect(context, sdkKey, null, new TJConnectListener() {
-                            @Override
-                            public void onConnectSuccess() {
-                            	listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
-                                        MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
-                            }
-
-                            @Override
-                            public void onConnectFailure() {
-                                listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
-                                        MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
-                                MoPubLog.log(CUSTOM, "Initializing Tapjoy has encountered a problem.");
-                            }
-                        });
+                        TapjoyConnectionGate.getInstance().runWhenConnected(context, sdkKey, null,
+                                new TapjoyConnectionGate.ConnectionListener() {
+                                    @Override
+                                    public void onConnected() {
+                                        MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network " +
+                                                "initialization succeeded in " + (SystemClock.elapsedRealtime()
+                                                - initializationStartTimeMillis) + " ms.");
+                                        listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
+                                                MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
+                                    }
+
+                                    @Override
+                                    public void onConnectionFailed() {
+                                        MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network " +
+                                                "initialization failed in " + (SystemClock.elapsedRealtime()
+                                                - initializationStartTimeMillis) + " ms.");
+                                        listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
+                                                MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+                                        MoPubLog.log(CUSTOM, "Initializing Tapjoy has encountered a problem.");
+                                    }
+                                });
+                        isConnectionPending = true;
                     } else {
                         MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Tapjoy adapter is initialized with empty/null 'sdkKey'. You must call Tapjoy.connect()");
                         networkInitializationSucceeded = false;
@@ -102,9 +114,13 @@ public class TapjoyAdapterConfiguration extends BaseAdapterConfiguration {
         }
 
         if (networkInitializationSucceeded) {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization succeeded in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
-        } else {
+        } else if (!isConnectionPending) {
+            MoPubLog.log(CUSTOM, MOPUB_NETWORK_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
@@ -0,0 +1,194 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.tapjoy.TJConnectListener;
+import com.tapjoy.Tapjoy;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Connects to Tapjoy on behalf of all Tapjoy adapters. Requests made while a connection is in
+ * progress wait on the same {@link Tapjoy#connect} call and are notified together once it
+ * completes. That call uses the SDK key and flags of the request that started it. A failed
+ * connection is retried with exponential backoff before the waiting requests are failed.
+ */
+final class TapjoyConnectionGate {
+    private static final String ADAPTER_NAME = TapjoyConnectionGate.class.getSimpleName();
+
+    private static final int MAX_CONNECT_ATTEMPTS = 3;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+
+    private static final TapjoyConnectionGate sInstance = new TapjoyConnectionGate();
+
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    // Guarded by this
+    @NonNull
+    private final List<ConnectionListener> mPendingListeners = new ArrayList<>();
+    @Nullable
+    private Context mContext;
+    @Nullable
+    private String mSdkKey;
+    @Nullable
+    private Hashtable<String, Object> mConnectFlags;
+    private boolean mIsConnecting;
+    private int mFailedAttemptCount;
+
+    interface ConnectionListener {
+        void onConnected();
+
+        void onConnectionFailed();
+    }
+
+    @NonNull
+    static TapjoyConnectionGate getInstance() {
+        return sInstance;
+    }
+
+    private TapjoyConnectionGate() {
+    }
+
+    /**
+     * Notifies the listener once Tapjoy is connected, connecting with the given SDK key and flags
+     * unless a connection is already in progress. In that case the given key and flags are not
+     * used, which is logged if they differ. The listener is notified immediately if Tapjoy is
+     * already connected.
+     */
+    void runWhenConnected(@NonNull final Context context,
+                          @NonNull final String sdkKey,
+                          @Nullable final Hashtable<String, Object> connectFlags,
+                          @NonNull final ConnectionListener listener) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(sdkKey);
+        Preconditions.checkNotNull(listener);
+
+        final boolean isConnected;
+        synchronized (this) {
+            if (!Tapjoy.isConnected()) {
+                mPendingListeners.add(listener);
+                if (mIsConnecting) {
+                    MoPubLog.log(CUSTOM, ADAPTER_NAME, "Waiting for the Tapjoy connection " +
+                            "in progress");
+                    if (!sdkKey.equals(mSdkKey) || !isEqual(connectFlags, mConnectFlags)) {
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "The Tapjoy connection in progress " +
+                                "uses a different SDK key or connect flags. The ones of this " +
+                                "request are ignored.");
+                    }
+                    return;
+                }
+
+                mIsConnecting = true;
+                // Retries may run long after the request that started them
+                mContext = context.getApplicationContext();
+                mSdkKey = sdkKey;
+                mConnectFlags = connectFlags;
+                mFailedAttemptCount = 0;
+                isConnected = false;
+            } else {
+                isConnected = true;
+            }
+        }
+
+        if (isConnected) {
+            listener.onConnected();
+        } else {
+            connect();
+        }
+    }
+
+    private static boolean isEqual(@Nullable final Hashtable<String, Object> connectFlags,
+                                   @Nullable final Hashtable<String, Object> otherConnectFlags) {
+        return connectFlags == null
+                ? otherConnectFlags == null
+                : connectFlags.equals(otherConnectFlags);
+    }
+
+    private void connect() {
+        final Context context;
+        final String sdkKey;
+        final Hashtable<String, Object> connectFlags;
+        synchronized (this) {
+            if (mContext == null || mSdkKey == null) {
+                return;
+            }
+            context = mContext;
+            sdkKey = mSdkKey;
+            connectFlags = mConnectFlags;
+        }
+
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Connecting to Tapjoy");
+        Tapjoy.connect(context, sdkKey, connectFlags, new TJConnectListener() {
+            @Override
+            public void onConnectSuccess() {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
+                notifyPendingListeners(true);
+            }
+
+            @Override
+            public void onConnectFailure() {
+                onConnectAttemptFailed();
+            }
+        });
+    }
+
+    private void onConnectAttemptFailed() {
+        final long retryDelayMillis;
+        synchronized (this) {
+            mFailedAttemptCount++;
+            if (mFailedAttemptCount >= MAX_CONNECT_ATTEMPTS) {
+                retryDelayMillis = -1;
+            } else {
+                retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS << (mFailedAttemptCount - 1);
+            }
+        }
+
+        if (retryDelayMillis < 0) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed after " +
+                    MAX_CONNECT_ATTEMPTS + " attempts");
+            notifyPendingListeners(false);
+            return;
+        }
+
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed. Retrying in " +
+                retryDelayMillis + " ms");
+        mMainHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                connect();
+            }
+        }, retryDelayMillis);
+    }
+
+    private void notifyPendingListeners(final boolean connected) {
+        final List<ConnectionListener> listeners;
+        synchronized (this) {
+            listeners = new ArrayList<>(mPendingListeners);
+            mPendingListeners.clear();
+            mContext = null;
+            mSdkKey = null;
+            mConnectFlags = null;
+            mIsConnecting = false;
+            mFailedAttemptCount = 0;
+        }
+
+        for (final ConnectionListener listener : listeners) {
+            if (connected) {
+                listener.onConnected();
+            } else {
+                listener.onConnectionFailed();
+            }
+        }
+    }
+}
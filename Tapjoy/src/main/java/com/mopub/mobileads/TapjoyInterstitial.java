@@ -9,17 +9,13 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.text.TextUtils;
 
 import com.mopub.common.MoPub;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.PersonalInfoManager;
-import com.mopub.common.util.Json;
 import com.tapjoy.TJActionRequest;
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
 import com.tapjoy.TJPlacement;
 import com.tapjoy.TJPlacementListener;
@@ -34,8 +30,6 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_SUCCESS;
 
-import org.json.JSONException;
-
 import java.util.HashMap;
 import java.util.Map;
 
@@ -55,7 +49,6 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
 
     private TJPlacement tjPlacement;
     private CustomEventInterstitialListener mInterstitialListener;
-    private Handler mHandler;
 
     static {
         TapjoyLog.i(TAG, "Class initialized with network adapter version " + TJC_MOPUB_ADAPTER_VERSION_NUMBER);
@@ -72,7 +65,6 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
                                     final Map<String, String> serverExtras) {
 
         mInterstitialListener = customEventInterstitialListener;
-        mHandler = new Handler(Looper.getMainLooper());
 
         fetchMoPubGDPRSettings();
 
@@ -93,20 +85,27 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
             String sdkKey = serverExtras.get(SDK_KEY);
             if (!TextUtils.isEmpty(sdkKey)) {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "Connecting to Tapjoy via MoPub dashboard settings...");
-                Tapjoy.connect(context, sdkKey, null, new TJConnectListener() {
-                    @Override
-                    public void onConnectSuccess() {
-                        MoPubLog.log(CUSTOM, "Tapjoy connected successfully");
-                        mTapjoyAdapterConfiguration.setCachedInitializationParameters(context, serverExtras);
-                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
-                        createPlacement(context, placementName, adm);
-                    }
-
-                    @Override
-                    public void onConnectFailure() {
-                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
-                    }
-                });
+                TapjoyConnectionGate.getInstance().runWhenConnected(context, sdkKey, null,
+                        new TapjoyConnectionGate.ConnectionListener() {
+                            @Override
+                            public void onConnected() {
+                                mTapjoyAdapterConfiguration.setCachedInitializationParameters(context, serverExtras);
+                                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
+                                createPlacement(context, placementName, adm);
+                            }
+
+                            @Override
+                            public void onConnectionFailed() {
+                                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
+                                TapjoyMainThreadDispatcher.dispatch(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        mInterstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                                        MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                                    }
+                                });
+                            }
+                        });
 
                 // If sdkKey is present via MoPub dashboard, we only want to request placement
                 // after auto-connect succeeds
@@ -127,11 +126,10 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
         tjPlacement.setAdapterVersion(TJC_MOPUB_ADAPTER_VERSION_NUMBER);
 
         if (!TextUtils.isEmpty(adm)) {
-            try {
-                Map<String, String> auctionData = Json.jsonStringToMap(adm);
-                tjPlacement.setAuctionData(new HashMap<>(auctionData));
-            } catch (JSONException e) {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
+            final HashMap<String, String> auctionData =
+                    TapjoyPlacementCache.getInstance().getAuctionData(adm);
+            if (auctionData != null) {
+                tjPlacement.setAuctionData(auctionData);
             }
         }
 
@@ -180,7 +178,7 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
 
     @Override
     public void onRequestSuccess(final TJPlacement placement) {
-        mHandler.post(new Runnable() {
+        TapjoyMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 if (placement.isContentAvailable()) {
@@ -197,7 +195,7 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
     @Override
     public void onRequestFailure(TJPlacement placement, TJError error) {
 
-        mHandler.post(new Runnable() {
+        TapjoyMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 mInterstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
@@ -209,7 +207,7 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
     @Override
     public void onContentShow(TJPlacement placement) {
 
-        mHandler.post(new Runnable() {
+        TapjoyMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 mInterstitialListener.onInterstitialShown();
@@ -222,7 +220,7 @@ public class TapjoyInterstitial extends CustomEventInterstitial implements TJPla
     public void onContentDismiss(TJPlacement placement) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy interstitial dismissed");
 
-        mHandler.post(new Runnable() {
+        TapjoyMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 mInterstitialListener.onInterstitialDismissed();
@@ -0,0 +1,104 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Moves Tapjoy placement and video listener callbacks from Tapjoy's threads to the main thread.
+ * Queued callbacks are run in bursts by a single main looper message. A callback dispatched on the main thread with nothing
+ * queued runs immediately. The delay of queued callbacks is logged every
+ * {@link #DELAY_LOG_INTERVAL} callbacks.
+ */
+final class TapjoyMainThreadDispatcher {
+    private static final String ADAPTER_NAME = TapjoyMainThreadDispatcher.class.getSimpleName();
+    private static final int DELAY_LOG_INTERVAL = 100;
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final ConcurrentLinkedQueue<PendingCallback> sPendingCallbacks =
+            new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean sIsDrainScheduled = new AtomicBoolean(false);
+    private static final Runnable sDrain = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    // Only accessed on the main thread
+    private static int sQueuedCount;
+    private static long sTotalDelayMillis;
+    private static long sMaxDelayMillis;
+
+    private TapjoyMainThreadDispatcher() {
+    }
+
+    static void dispatch(@NonNull final Runnable callback) {
+        Preconditions.checkNotNull(callback);
+
+        if (Looper.myLooper() == Looper.getMainLooper() && sPendingCallbacks.isEmpty()) {
+            callback.run();
+            return;
+        }
+
+        sPendingCallbacks.offer(new PendingCallback(callback, SystemClock.elapsedRealtime()));
+        if (sIsDrainScheduled.compareAndSet(false, true)) {
+            sMainHandler.post(sDrain);
+        }
+    }
+
+    private static void drain() {
+        // Cleared first so that callbacks queued during the drain schedule another one. Only the
+        // callbacks queued before the drain started are run by it, as separate posts would be.
+        sIsDrainScheduled.set(false);
+        try {
+            for (int remaining = sPendingCallbacks.size(); remaining > 0; remaining--) {
+                final PendingCallback pendingCallback = sPendingCallbacks.poll();
+                if (pendingCallback == null) {
+                    return;
+                }
+                recordDelay(SystemClock.elapsedRealtime() - pendingCallback.dispatchTimeMillis);
+                pendingCallback.callback.run();
+            }
+        } finally {
+            if (!sPendingCallbacks.isEmpty() && sIsDrainScheduled.compareAndSet(false, true)) {
+                sMainHandler.post(sDrain);
+            }
+        }
+    }
+
+    private static void recordDelay(final long delayMillis) {
+        sQueuedCount++;
+        sTotalDelayMillis += delayMillis;
+        sMaxDelayMillis = Math.max(sMaxDelayMillis, delayMillis);
+
+        if (sQueuedCount == DELAY_LOG_INTERVAL) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Queued callbacks waited " +
+                    sTotalDelayMillis / sQueuedCount + " ms on average and " + sMaxDelayMillis +
+                    " ms at most over the last " + sQueuedCount + " callbacks.");
+            sQueuedCount = 0;
+            sTotalDelayMillis = 0;
+            sMaxDelayMillis = 0;
+        }
+    }
+
+    private static class PendingCallback {
+        @NonNull
+        final Runnable callback;
+        final long dispatchTimeMillis;
+
+        PendingCallback(@NonNull final Runnable callback, final long dispatchTimeMillis) {
+            this.callback = callback;
+            this.dispatchTimeMillis = dispatchTimeMillis;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.mopub.mobileads;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.util.Json;
+import com.tapjoy.TJPlacement;
+
+import org.json.JSONException;
+
+import java.util.HashMap;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Prepared {@link TJPlacement}s keyed by placement name and auction ID, and the auction data
+ * parsed from recent bid responses. A placement is handed out again only while its content is
+ * still available, and is dropped once it is shown or the ad that loaded it is invalidated.
+ */
+final class TapjoyPlacementCache {
+    private static final String ADAPTER_NAME = TapjoyPlacementCache.class.getSimpleName();
+
+    private static final String AUCTION_ID_KEY = "id";
+    private static final int MAX_PLACEMENTS = 8;
+    private static final int MAX_AUCTION_DATA = 16;
+
+    private static final TapjoyPlacementCache sInstance = new TapjoyPlacementCache();
+
+    @NonNull
+    private final LruCache<String, TJPlacement> mPlacements = new LruCache<>(MAX_PLACEMENTS);
+    @NonNull
+    private final LruCache<String, HashMap<String, String>> mAuctionData =
+            new LruCache<>(MAX_AUCTION_DATA);
+
+    @NonNull
+    static TapjoyPlacementCache getInstance() {
+        return sInstance;
+    }
+
+    private TapjoyPlacementCache() {
+    }
+
+    /**
+     * @return a copy of the auction data of the bid response, which is parsed once per response,
+     * or null if it cannot be parsed. Tapjoy keeps the map it is given, so each placement gets its
+     * own copy.
+     */
+    @Nullable
+    HashMap<String, String> getAuctionData(@NonNull final String adm) {
+        Preconditions.checkNotNull(adm);
+
+        final HashMap<String, String> auctionData = getSharedAuctionData(adm);
+        return auctionData != null ? new HashMap<>(auctionData) : null;
+    }
+
+    /**
+     * @return the key of the placement for the bid response, or of the placement alone if there
+     * is none.
+     */
+    @NonNull
+    String getKey(@NonNull final String placementName, @Nullable final String adm) {
+        Preconditions.checkNotNull(placementName);
+
+        if (TextUtils.isEmpty(adm)) {
+            return placementName;
+        }
+
+        final HashMap<String, String> auctionData = getSharedAuctionData(adm);
+        final String auctionId = auctionData != null ? auctionData.get(AUCTION_ID_KEY) : null;
+        return placementName + "|" + (TextUtils.isEmpty(auctionId) ? adm : auctionId);
+    }
+
+    // The returned map is shared and must not be modified
+    @Nullable
+    private HashMap<String, String> getSharedAuctionData(@NonNull final String adm) {
+        HashMap<String, String> auctionData = mAuctionData.get(adm);
+        if (auctionData == null) {
+            try {
+                auctionData = new HashMap<>(Json.jsonStringToMap(adm));
+            } catch (JSONException e) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
+                return null;
+            }
+            mAuctionData.put(adm, auctionData);
+        }
+        return auctionData;
+    }
+
+    /**
+     * @return the placement cached under the key if its content is still available, otherwise
+     * null, in which case the stale placement is dropped.
+     */
+    @Nullable
+    TJPlacement get(@NonNull final String key) {
+        Preconditions.checkNotNull(key);
+
+        final TJPlacement placement = mPlacements.get(key);
+        if (placement == null) {
+            return null;
+        }
+        if (!placement.isContentAvailable()) {
+            mPlacements.remove(key);
+            return null;
+        }
+        return placement;
+    }
+
+    void put(@NonNull final String key, @NonNull final TJPlacement placement) {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(placement);
+
+        mPlacements.put(key, placement);
+    }
+
+    void remove(@NonNull final String key) {
+        Preconditions.checkNotNull(key);
+
+        mPlacements.remove(key);
+    }
+
+    /**
+     * Drops the placement cached under the key if it is the given one.
+     */
+    void remove(@NonNull final String key, @NonNull final TJPlacement placement) {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(placement);
+
+        synchronized (mPlacements) {
+            if (mPlacements.get(key) == placement) {
+                mPlacements.remove(key);
+            }
+        }
+    }
+}
@@ -11,9 +11,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.PersonalInfoManager;
-import com.mopub.common.util.Json;
 import com.tapjoy.TJActionRequest;
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
 import com.tapjoy.TJPlacement;
 import com.tapjoy.TJPlacementListener;
@@ -21,8 +19,6 @@ import com.tapjoy.TJVideoListener;
 import com.tapjoy.Tapjoy;
 import com.tapjoy.TapjoyLog;
 
-import org.json.JSONException;
-
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOULD_REWARD;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_ATTEMPTED;
@@ -52,6 +48,8 @@ public class TapjoyRewardedVideo extends CustomEventRewardedVideo {
     private String placementName;
     private Hashtable<String, Object> connectFlags;
     private TJPlacement tjPlacement;
+    @Nullable
+    private String placementKey;
     private boolean isAutoConnect = false;
     private static TapjoyRewardedVideoListener sTapjoyListener = new TapjoyRewardedVideoListener();
     @NonNull
@@ -74,6 +72,9 @@ public class TapjoyRewardedVideo extends CustomEventRewardedVideo {
 
     @Override
     protected void onInvalidate() {
+        if (placementKey != null && tjPlacement != null) {
+            TapjoyPlacementCache.getInstance().remove(placementKey, tjPlacement);
+        }
     }
 
     public TapjoyRewardedVideo() {
@@ -133,18 +134,26 @@ public class TapjoyRewardedVideo extends CustomEventRewardedVideo {
     }
 
     private void connectToTapjoy(final Activity launcherActivity, final String adm) {
-        Tapjoy.connect(launcherActivity, sdkKey, connectFlags, new TJConnectListener() {
-            @Override
-            public void onConnectSuccess() {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
-                createPlacement(launcherActivity, adm);
-            }
-
-            @Override
-            public void onConnectFailure() {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
-            }
-        });
+        TapjoyConnectionGate.getInstance().runWhenConnected(launcherActivity, sdkKey, connectFlags,
+                new TapjoyConnectionGate.ConnectionListener() {
+                    @Override
+                    public void onConnected() {
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
+                        createPlacement(launcherActivity, adm);
+                    }
+
+                    @Override
+                    public void onConnectionFailed() {
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
+                        TapjoyMainThreadDispatcher.dispatch(new Runnable() {
+                            @Override
+                            public void run() {
+                                MoPubRewardedVideoManager.onRewardedVideoLoadFailure(TapjoyRewardedVideo.class, TAPJOY_AD_NETWORK_CONSTANT, MoPubErrorCode.NETWORK_NO_FILL);
+                                MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                            }
+                        });
+                    }
+                });
     }
 
     private void createPlacement(Activity activity, final String adm) {
@@ -156,19 +165,36 @@ public class TapjoyRewardedVideo extends CustomEventRewardedVideo {
                 return;
             }
 
+            final TapjoyPlacementCache placementCache = TapjoyPlacementCache.getInstance();
+            placementKey = placementCache.getKey(placementName, adm);
+
+            final TJPlacement cachedPlacement = placementCache.get(placementKey);
+            if (cachedPlacement != null) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Reusing Tapjoy placement with available " +
+                        "content: " + placementName);
+                tjPlacement = cachedPlacement;
+                TapjoyMainThreadDispatcher.dispatch(new Runnable() {
+                    @Override
+                    public void run() {
+                        MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(TapjoyRewardedVideo.class, TAPJOY_AD_NETWORK_CONSTANT);
+                        MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
+                    }
+                });
+                return;
+            }
+
             tjPlacement = new TJPlacement(activity, placementName, sTapjoyListener);
             tjPlacement.setMediationName(TJC_MOPUB_NETWORK_CONSTANT);
             tjPlacement.setAdapterVersion(TJC_MOPUB_ADAPTER_VERSION_NUMBER);
 
             if (!TextUtils.isEmpty(adm)) {
-                try {
-                    Map<String, String> auctionData = Json.jsonStringToMap(adm);
-                    tjPlacement.setAuctionData(new HashMap<>(auctionData));
-                } catch (JSONException e) {
-                    MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
+                final HashMap<String, String> auctionData = placementCache.getAuctionData(adm);
+                if (auctionData != null) {
+                    tjPlacement.setAuctionData(auctionData);
                 }
             }
 
+            placementCache.put(placementKey, tjPlacement);
             tjPlacement.requestContent();
             MoPubLog.log(placementName, LOAD_ATTEMPTED, ADAPTER_NAME);
         } else {
@@ -188,6 +214,9 @@ public class TapjoyRewardedVideo extends CustomEventRewardedVideo {
     protected void showVideo() {
         MoPubLog.log(SHOW_ATTEMPTED, ADAPTER_NAME);
         if (hasVideoAvailable()) {
+            if (placementKey != null) {
+                TapjoyPlacementCache.getInstance().remove(placementKey);
+            }
             tjPlacement.showContent();
         } else {
             MoPubLog.log(SHOW_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
@@ -2,6 +2,7 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -62,7 +63,10 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
+        boolean networkInitializationStarted = false;
 
         synchronized (UnityAdsAdapterConfiguration.class) {
             try {
@@ -72,6 +76,7 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
                     UnityRouter.initUnityAds(configuration, (Activity) context);
 
                     networkInitializationSucceeded = true;
+                    networkInitializationStarted = true;
                 } else {
                     MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unity Ads initialization not started. " +
                             "Context is not an Activity. Note that initialization on the first app launch is a no-op.");
@@ -82,9 +87,14 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
             }
         }
         if (networkInitializationSucceeded) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization " +
+                    (networkInitializationStarted ? "started" : "succeeded") + " in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(UnityAdsAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(UnityAdsAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
@@ -69,6 +69,7 @@ public class UnityBanner extends CustomEventBanner implements IUnityBannerListen
                 MoPubLog.log(placementId, LOAD_ATTEMPTED, ADAPTER_NAME);
             }
         } else {
+            UnityRouter.getBannerRouter().onLoadResolved(placementId);
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Failed to initialize Unity Ads");
             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
                     MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
@@ -4,16 +4,27 @@ import android.view.View;
 
 import com.unity3d.services.banners.IUnityBannerListener;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Routes Unity banner callbacks to the listener registered for each placement. Placements with an
+ * outstanding load request are tracked so that errors, which Unity Ads reports without a
+ * placement, are delivered to every request they can affect.
+ */
 public class UnityBannerCallbackRouter implements IUnityBannerListener {
 
-    private final Map<String, IUnityBannerListener> listeners = new HashMap<>();
-    private String currentPlacementId;
+    private final ConcurrentHashMap<String, IUnityBannerListener> listeners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Boolean> pendingPlacementIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UnityPlacementLatencyStats> latencyStats = new ConcurrentHashMap<>();
+    private volatile String currentPlacementId;
 
     @Override
     public void onUnityBannerLoaded(String placementId, View view) {
+        pendingPlacementIds.remove(placementId);
+        getOrCreateLatencyStats(placementId).onReady();
+
         IUnityBannerListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityBannerLoaded(placementId, view);
@@ -22,6 +33,8 @@ public class UnityBannerCallbackRouter implements IUnityBannerListener {
 
     @Override
     public void onUnityBannerUnloaded(String placementId) {
+        getOrCreateLatencyStats(placementId).onFinished();
+
         IUnityBannerListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityBannerUnloaded(placementId);
@@ -30,6 +43,8 @@ public class UnityBannerCallbackRouter implements IUnityBannerListener {
 
     @Override
     public void onUnityBannerShow(String placementId) {
+        getOrCreateLatencyStats(placementId).onStarted();
+
         IUnityBannerListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityBannerShow(placementId);
@@ -54,21 +69,83 @@ public class UnityBannerCallbackRouter implements IUnityBannerListener {
 
     @Override
     public void onUnityBannerError(String message) {
-        IUnityBannerListener listener = listeners.get(currentPlacementId);
-        if (listener != null) {
-            listener.onUnityBannerError(message);
+        final List<String> affectedPlacementIds = new ArrayList<>(pendingPlacementIds.keySet());
+
+        // Nothing is loading, so the error belongs to the placement that was used last
+        if (affectedPlacementIds.isEmpty() && currentPlacementId != null) {
+            affectedPlacementIds.add(currentPlacementId);
+        }
+
+        for (String placementId : affectedPlacementIds) {
+            pendingPlacementIds.remove(placementId);
+
+            IUnityBannerListener listener = listeners.get(placementId);
+            if (listener != null) {
+                listener.onUnityBannerError(message);
+            }
         }
     }
 
     public void addListener(String placementId, IUnityBannerListener listener) {
-        listeners.put(placementId, listener);
+        if (placementId != null && listener != null) {
+            listeners.put(placementId, listener);
+        }
     }
 
     public void removeListener(String placementId) {
+        if (placementId == null) {
+            return;
+        }
+
         listeners.remove(placementId);
+        pendingPlacementIds.remove(placementId);
     }
 
+    /**
+     * Marks a load request as outstanding for the placement until the banner loads or fails.
+     * Loads that complete immediately must call {@link #onLoadResolved(String)}.
+     */
     public void setCurrentPlacementId(String placementId) {
         currentPlacementId = placementId;
+
+        if (placementId != null) {
+            pendingPlacementIds.put(placementId, Boolean.TRUE);
+            getOrCreateLatencyStats(placementId).onRequested();
+        }
+    }
+
+    /**
+     * Clears the outstanding load request of the placement when the load completed without a
+     * callback, so that later errors are not reported as load failures.
+     */
+    public void onLoadResolved(String placementId) {
+        if (placementId == null) {
+            return;
+        }
+
+        pendingPlacementIds.remove(placementId);
+        final UnityPlacementLatencyStats stats = latencyStats.get(placementId);
+        if (stats != null) {
+            stats.onRequestResolved();
+        }
+    }
+
+    /**
+     * @return the latency statistics for the placement, or null if it has not been used.
+     */
+    public UnityPlacementLatencyStats getLatencyStats(String placementId) {
+        return placementId != null ? latencyStats.get(placementId) : null;
+    }
+
+    private UnityPlacementLatencyStats getOrCreateLatencyStats(String placementId) {
+        UnityPlacementLatencyStats stats = latencyStats.get(placementId);
+        if (stats == null) {
+            final UnityPlacementLatencyStats newStats = new UnityPlacementLatencyStats();
+            stats = latencyStats.putIfAbsent(placementId, newStats);
+            if (stats == null) {
+                stats = newStats;
+            }
+        }
+        return stats;
     }
 }
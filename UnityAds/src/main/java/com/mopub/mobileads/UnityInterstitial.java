@@ -51,11 +51,13 @@ public class UnityInterstitial extends CustomEventInterstitial implements IUnity
         initializeUnityAdsSdk(serverExtras);
 
         if (UnityAds.isReady(mPlacementId)) {
+            UnityRouter.getInterstitialRouter().onLoadResolved(mPlacementId);
             mCustomEventInterstitialListener.onInterstitialLoaded();
             loadRequested = false;
 
             MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
         } else if (UnityAds.getPlacementState(mPlacementId) == UnityAds.PlacementState.NO_FILL) {
+            UnityRouter.getInterstitialRouter().onLoadResolved(mPlacementId);
             mCustomEventInterstitialListener.onInterstitialFailed(MoPubErrorCode.NETWORK_NO_FILL);
             UnityRouter.getInterstitialRouter().removeListener(mPlacementId);
 
@@ -3,15 +3,26 @@ package com.mopub.mobileads;
 import com.unity3d.ads.UnityAds;
 import com.unity3d.ads.mediation.IUnityAdsExtendedListener;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Routes Unity Ads callbacks to the listener registered for each placement. Placements with an
+ * outstanding load request are tracked so that errors, which Unity Ads reports without a
+ * placement, are delivered to every request they can affect.
+ */
 public class UnityInterstitialCallbackRouter implements IUnityAdsExtendedListener {
-    private final Map<String, IUnityAdsExtendedListener> listeners = new HashMap<>();
-    private String currentPlacementId;
+    private final ConcurrentHashMap<String, IUnityAdsExtendedListener> listeners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Boolean> pendingPlacementIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UnityPlacementLatencyStats> latencyStats = new ConcurrentHashMap<>();
+    private volatile String currentPlacementId;
 
     @Override
     public void onUnityAdsReady(String placementId) {
+        pendingPlacementIds.remove(placementId);
+        getOrCreateLatencyStats(placementId).onReady();
+
         IUnityAdsExtendedListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityAdsReady(placementId);
@@ -20,6 +31,8 @@ public class UnityInterstitialCallbackRouter implements IUnityAdsExtendedListene
 
     @Override
     public void onUnityAdsStart(String placementId) {
+        getOrCreateLatencyStats(placementId).onStarted();
+
         IUnityAdsExtendedListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityAdsStart(placementId);
@@ -28,6 +41,8 @@ public class UnityInterstitialCallbackRouter implements IUnityAdsExtendedListene
 
     @Override
     public void onUnityAdsFinish(String placementId, UnityAds.FinishState finishState) {
+        getOrCreateLatencyStats(placementId).onFinished();
+
         IUnityAdsExtendedListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityAdsFinish(placementId, finishState);
@@ -44,6 +59,10 @@ public class UnityInterstitialCallbackRouter implements IUnityAdsExtendedListene
 
     @Override
     public void onUnityAdsPlacementStateChanged(String placementId, UnityAds.PlacementState oldState, UnityAds.PlacementState newState) {
+        if (newState == UnityAds.PlacementState.NO_FILL) {
+            pendingPlacementIds.remove(placementId);
+        }
+
         IUnityAdsExtendedListener listener = listeners.get(placementId);
         if (listener != null) {
             listener.onUnityAdsPlacementStateChanged(placementId, oldState, newState);
@@ -52,22 +71,84 @@ public class UnityInterstitialCallbackRouter implements IUnityAdsExtendedListene
 
     @Override
     public void onUnityAdsError(UnityAds.UnityAdsError unityAdsError, String message) {
-        IUnityAdsExtendedListener listener = listeners.get(currentPlacementId);
-        if (listener != null) {
-            listener.onUnityAdsError(unityAdsError, message);
+        final List<String> affectedPlacementIds = new ArrayList<>(pendingPlacementIds.keySet());
+
+        // Nothing is loading, so the error belongs to the placement that was used last
+        if (affectedPlacementIds.isEmpty() && currentPlacementId != null) {
+            affectedPlacementIds.add(currentPlacementId);
+        }
+
+        for (String placementId : affectedPlacementIds) {
+            pendingPlacementIds.remove(placementId);
+
+            IUnityAdsExtendedListener listener = listeners.get(placementId);
+            if (listener != null) {
+                listener.onUnityAdsError(unityAdsError, message);
+            }
         }
     }
 
     public void addListener(String placementId, IUnityAdsExtendedListener listener) {
-        listeners.put(placementId, listener);
+        if (placementId != null && listener != null) {
+            listeners.put(placementId, listener);
+        }
     }
 
-
     public void removeListener(String placementId) {
+        if (placementId == null) {
+            return;
+        }
+
         listeners.remove(placementId);
+        pendingPlacementIds.remove(placementId);
     }
 
+    /**
+     * Marks a load request as outstanding for the placement until it becomes ready, has no fill,
+     * or fails.
+     * Loads that complete immediately must call {@link #onLoadResolved(String)}.
+     */
     public void setCurrentPlacementId(String placementId) {
         currentPlacementId = placementId;
+
+        if (placementId != null) {
+            pendingPlacementIds.put(placementId, Boolean.TRUE);
+            getOrCreateLatencyStats(placementId).onRequested();
+        }
+    }
+
+    /**
+     * Clears the outstanding load request of the placement when the load completed without a
+     * callback, so that later errors are not reported as load failures.
+     */
+    public void onLoadResolved(String placementId) {
+        if (placementId == null) {
+            return;
+        }
+
+        pendingPlacementIds.remove(placementId);
+        final UnityPlacementLatencyStats stats = latencyStats.get(placementId);
+        if (stats != null) {
+            stats.onRequestResolved();
+        }
+    }
+
+    /**
+     * @return the latency statistics for the placement, or null if it has not been used.
+     */
+    public UnityPlacementLatencyStats getLatencyStats(String placementId) {
+        return placementId != null ? latencyStats.get(placementId) : null;
+    }
+
+    private UnityPlacementLatencyStats getOrCreateLatencyStats(String placementId) {
+        UnityPlacementLatencyStats stats = latencyStats.get(placementId);
+        if (stats == null) {
+            final UnityPlacementLatencyStats newStats = new UnityPlacementLatencyStats();
+            stats = latencyStats.putIfAbsent(placementId, newStats);
+            if (stats == null) {
+                stats = newStats;
+            }
+        }
+        return stats;
     }
 }
@@ -0,0 +1,82 @@
+package com.mopub.mobileads;
+
+import android.os.SystemClock;
+
+/**
+ * Latency statistics for a single Unity Ads placement. Ready latency is measured from the load
+ * request, started latency from the ad becoming ready, and finished latency from the ad starting.
+ */
+public final class UnityPlacementLatencyStats {
+    private static final long NOT_SET = -1;
+
+    private long mRequestTimeMillis = NOT_SET;
+    private long mReadyTimeMillis = NOT_SET;
+    private long mStartTimeMillis = NOT_SET;
+
+    private int mReadyCount;
+    private long mTotalReadyLatencyMillis;
+    private int mStartedCount;
+    private long mTotalStartedLatencyMillis;
+    private int mFinishedCount;
+    private long mTotalFinishedLatencyMillis;
+
+    synchronized void onRequested() {
+        mRequestTimeMillis = SystemClock.elapsedRealtime();
+    }
+
+    synchronized void onRequestResolved() {
+        mRequestTimeMillis = NOT_SET;
+    }
+
+    synchronized void onReady() {
+        final long now = SystemClock.elapsedRealtime();
+        if (mRequestTimeMillis != NOT_SET) {
+            mReadyCount++;
+            mTotalReadyLatencyMillis += now - mRequestTimeMillis;
+            mRequestTimeMillis = NOT_SET;
+        }
+        mReadyTimeMillis = now;
+    }
+
+    synchronized void onStarted() {
+        final long now = SystemClock.elapsedRealtime();
+        if (mReadyTimeMillis != NOT_SET) {
+            mStartedCount++;
+            mTotalStartedLatencyMillis += now - mReadyTimeMillis;
+            mReadyTimeMillis = NOT_SET;
+        }
+        mStartTimeMillis = now;
+    }
+
+    synchronized void onFinished() {
+        if (mStartTimeMillis != NOT_SET) {
+            mFinishedCount++;
+            mTotalFinishedLatencyMillis += SystemClock.elapsedRealtime() - mStartTimeMillis;
+            mStartTimeMillis = NOT_SET;
+        }
+    }
+
+    public synchronized int getReadyCount() {
+        return mReadyCount;
+    }
+
+    public synchronized long getAverageReadyLatencyMillis() {
+        return mReadyCount > 0 ? mTotalReadyLatencyMillis / mReadyCount : 0;
+    }
+
+    public synchronized int getStartedCount() {
+        return mStartedCount;
+    }
+
+    public synchronized long getAverageStartedLatencyMillis() {
+        return mStartedCount > 0 ? mTotalStartedLatencyMillis / mStartedCount : 0;
+    }
+
+    public synchronized int getFinishedCount() {
+        return mFinishedCount;
+    }
+
+    public synchronized long getAverageFinishedLatencyMillis() {
+        return mFinishedCount > 0 ? mTotalFinishedLatencyMillis / mFinishedCount : 0;
+    }
+}
@@ -83,12 +83,15 @@ public class UnityRewardedVideo extends CustomEventRewardedVideo implements IUni
         mLauncherActivity = activity;
 
         UnityRouter.getInterstitialRouter().addListener(mPlacementId, this);
+        UnityRouter.getInterstitialRouter().setCurrentPlacementId(mPlacementId);
 
         if (hasVideoAvailable()) {
+            UnityRouter.getInterstitialRouter().onLoadResolved(mPlacementId);
             MoPubRewardedVideoManager.onRewardedVideoLoadSuccess(UnityRewardedVideo.class, mPlacementId);
 
             MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
         } else if (UnityAds.getPlacementState(mPlacementId) == UnityAds.PlacementState.NO_FILL) {
+            UnityRouter.getInterstitialRouter().onLoadResolved(mPlacementId);
             MoPubRewardedVideoManager.onRewardedVideoLoadFailure(UnityRewardedVideo.class, mPlacementId, MoPubErrorCode.NETWORK_NO_FILL);
             UnityRouter.getInterstitialRouter().removeListener(mPlacementId);
             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME,
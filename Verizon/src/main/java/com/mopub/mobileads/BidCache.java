@@ -1,31 +1,176 @@
 package com.mopub.mobileads;
 
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
 import com.verizon.ads.Bid;
 import com.verizon.ads.Configuration;
-import com.verizon.ads.support.TimedMemoryCache;
 
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches super auction bids. Each placement keeps a bounded FIFO of bids, so the oldest bid, which
+ * is also the one closest to expiring, is used first. A global limit on the number of bids is
+ * enforced by evicting from the least recently used placement, and expired bids are dropped when
+ * they are encountered.
+ */
 final class BidCache {
 
     private static final int TEN_MINUTES_MILLIS = 10 * 60 * 1000; // super auction timeout
     private static final String DOMAIN = "com.verizon.ads";
     private static final String CACHE_TIMEOUT_KEY = "super.auction.cache.timeout";
+    private static final long CACHE_TIMEOUT_REFRESH_MILLIS = 60 * 1000;
+
+    private static final int MAX_BIDS_PER_PLACEMENT = 4;
+    // The global budget counts bids rather than bytes: Bid does not expose the size of the
+    // response it holds, so a byte estimate would only be a guess. Bids are requested one level
+    // ahead and used within the cache timeout, so 32 covers several placements with the full
+    // per-placement depth while keeping the worst case bounded.
+    private static final int MAX_TOTAL_BIDS = 32;
+    private static final long NOT_READ = -1;
+
+    // Access-ordered, so iteration starts at the least recently used placement
+    private static final LinkedHashMap<String, ArrayDeque<CachedBid>> bidsByPlacement =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private static int totalBids;
+
+    private static long cacheTimeoutMillis = TEN_MINUTES_MILLIS;
+    private static long cacheTimeoutReadTimeMillis = NOT_READ;
+
+    private static long hitCount;
+    private static long missCount;
+    private static long expiredCount;
+    private static long evictedCount;
+
+    static synchronized void put(final String placementId, final Bid bid) {
+        if (placementId == null || bid == null) {
+            return;
+        }
+
+        final long now = SystemClock.elapsedRealtime();
+
+        ArrayDeque<CachedBid> bids = bidsByPlacement.get(placementId);
+        if (bids == null) {
+            bids = new ArrayDeque<>(MAX_BIDS_PER_PLACEMENT);
+            bidsByPlacement.put(placementId, bids);
+        }
+
+        removeExpired(bids, now);
+        if (bids.size() >= MAX_BIDS_PER_PLACEMENT) {
+            remove(bids.pollFirst());
+            evictedCount++;
+        }
+
+        bids.offerLast(new CachedBid(bid, now + getCacheTimeoutMillis(now)));
+        totalBids++;
+
+        trimToLimit(now);
+    }
+
+    /**
+     * Removes and returns the oldest unexpired bid for the placement.
+     */
+    @Nullable
+    static synchronized Bid get(final String placementId) {
+        final ArrayDeque<CachedBid> bids = bidsByPlacement.get(placementId);
+        if (bids != null) {
+            removeExpired(bids, SystemClock.elapsedRealtime());
+
+            final CachedBid cachedBid = bids.pollFirst();
+            if (bids.isEmpty()) {
+                bidsByPlacement.remove(placementId);
+            }
+            if (cachedBid != null) {
+                remove(cachedBid);
+                hitCount++;
+                return cachedBid.bid;
+            }
+        }
 
-    private static final TimedMemoryCache<Bid> bidTimedMemoryCache;
+        missCount++;
+        return null;
+    }
+
+    static synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    static synchronized long getMissCount() {
+        return missCount;
+    }
+
+    static synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+
+    static synchronized long getEvictedCount() {
+        return evictedCount;
+    }
+
+    static synchronized int size() {
+        return totalBids;
+    }
 
-    static {
-        bidTimedMemoryCache = new TimedMemoryCache<>();
+    private static long getCacheTimeoutMillis(final long now) {
+        if (cacheTimeoutReadTimeMillis == NOT_READ
+                || now - cacheTimeoutReadTimeMillis >= CACHE_TIMEOUT_REFRESH_MILLIS) {
+            cacheTimeoutMillis = (long) Configuration.getInt(DOMAIN,
+                    CACHE_TIMEOUT_KEY,
+                    TEN_MINUTES_MILLIS);
+            cacheTimeoutReadTimeMillis = now;
+        }
+        return cacheTimeoutMillis;
     }
 
-    static void put(final String placementId, final Bid bid) {
+    private static void trimToLimit(final long now) {
+        final Iterator<Map.Entry<String, ArrayDeque<CachedBid>>> placements =
+                bidsByPlacement.entrySet().iterator();
+
+        while (placements.hasNext() && totalBids > MAX_TOTAL_BIDS) {
+            final ArrayDeque<CachedBid> bids = placements.next().getValue();
 
-        final long timeLimit = (long) Configuration.getInt(DOMAIN,
-                CACHE_TIMEOUT_KEY,
-                TEN_MINUTES_MILLIS);
+            removeExpired(bids, now);
+            while (!bids.isEmpty() && totalBids > MAX_TOTAL_BIDS) {
+                remove(bids.pollFirst());
+                evictedCount++;
+            }
+            if (bids.isEmpty()) {
+                placements.remove();
+            }
+        }
+    }
+
+    private static void removeExpired(@NonNull final ArrayDeque<CachedBid> bids, final long now) {
+        final Iterator<CachedBid> iterator = bids.iterator();
+        while (iterator.hasNext()) {
+            final CachedBid cachedBid = iterator.next();
+            if (cachedBid.expirationTimeMillis <= now) {
+                iterator.remove();
+                remove(cachedBid);
+                expiredCount++;
+            }
+        }
+    }
 
-        bidTimedMemoryCache.add(placementId, bid, timeLimit);
+    private static void remove(@Nullable final CachedBid cachedBid) {
+        if (cachedBid != null) {
+            totalBids--;
+        }
     }
 
-    static Bid get(final String placementId) {
-        return bidTimedMemoryCache.get(placementId);
+    private static final class CachedBid {
+        @NonNull
+        final Bid bid;
+        final long expirationTimeMillis;
+
+        CachedBid(@NonNull final Bid bid, final long expirationTimeMillis) {
+            this.bid = bid;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
     }
 }
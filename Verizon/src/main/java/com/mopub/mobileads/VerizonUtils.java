@@ -1,8 +1,5 @@
 package com.mopub.mobileads;
 
-import android.os.Handler;
-import android.os.Looper;
-
 import com.verizon.ads.ErrorInfo;
 
 import static com.verizon.ads.VASAds.ERROR_AD_REQUEST_FAILED;
@@ -11,10 +8,8 @@ import static com.verizon.ads.VASAds.ERROR_NO_FILL;
 
 public final class VerizonUtils {
 
-    private static final Handler handler = new Handler(Looper.getMainLooper());
-
     public static void postOnUiThread(final Runnable runnable) {
-        handler.post(runnable);
+        VerizonMainThreadDispatcher.dispatch(runnable);
     }
 
     static MoPubErrorCode convertErrorInfoToMoPub(final ErrorInfo errorInfo) {
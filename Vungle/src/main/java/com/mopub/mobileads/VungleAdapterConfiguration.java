@@ -1,6 +1,7 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.TextUtils;
@@ -62,7 +63,10 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        final long initializationStartTimeMillis = SystemClock.elapsedRealtime();
+
         boolean networkInitializationSucceeded = false;
+        boolean networkInitializationStarted = false;
 
         synchronized (VungleAdapterConfiguration.class) {
             try {
@@ -74,6 +78,8 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
                     if (TextUtils.isEmpty(mAppId)) {
                         MoPubLog.log(CUSTOM, ADAPTER_NAME, "Vungle's initialization not " +
                                 "started. Ensure Vungle's appId is populated");
+                        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                                (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
                         listener.onNetworkInitializationFinished(this.getClass(),
                                 MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
                         return;
@@ -82,6 +88,7 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
                         sVungleRouter.initVungle(context, mAppId);
 
                         networkInitializationSucceeded = true;
+                        networkInitializationStarted = true;
                     }
                 }
             } catch (Exception e) {
@@ -90,9 +97,15 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
             }
         }
         if (networkInitializationSucceeded) {
+            // Vungle reports the end of an initialization to the router, not here
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization " +
+                    (networkInitializationStarted ? "started" : "succeeded") + " in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(this.getClass(),
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Network initialization failed in " +
+                    (SystemClock.elapsedRealtime() - initializationStartTimeMillis) + " ms.");
             listener.onNetworkInitializationFinished(this.getClass(),
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
@@ -129,7 +129,7 @@ public class VungleInterstitial extends CustomEventInterstitial {
 
         if (sVungleRouter.isAdPlayableForPlacement(mPlacementId)) {
 
-            sVungleRouter.playAdForPlacement(mPlacementId, mAdConfig);
+            sVungleRouter.playAdForPlacement(mPlacementId, mAdConfig, mVungleRouterListener);
             mIsPlaying = true;
         } else {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "SDK tried to show a Vungle interstitial ad before it " +
@@ -145,7 +145,7 @@ public class VungleInterstitial extends CustomEventInterstitial {
     @Override
     protected void onInvalidate() {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "onInvalidate is called for Placement ID:" + mPlacementId);
-        sVungleRouter.removeRouterListener(mPlacementId);
+        sVungleRouter.removeRouterListener(mPlacementId, mVungleRouterListener);
         mVungleRouterListener = null;
         mAdConfig = null;
     }
@@ -210,7 +210,7 @@ public class VungleInterstitial extends CustomEventInterstitial {
                         mCustomEventInterstitialListener.onInterstitialDismissed();
                     }
                 });
-                sVungleRouter.removeRouterListener(mPlacementId);
+                sVungleRouter.removeRouterListener(mPlacementId, this);
             }
         }
 
@@ -158,7 +158,7 @@ public class VungleRewardedVideo extends CustomEventRewardedVideo {
         final AdConfig adConfig = new AdConfig();
         setUpMediationSettingsForRequest(adConfig);
 
-        sVungleRouter.playAdForPlacement(mPlacementId, adConfig);
+        sVungleRouter.playAdForPlacement(mPlacementId, adConfig, mVungleRewardedRouterListener);
         mIsPlaying = true;
     }
 
@@ -166,7 +166,7 @@ public class VungleRewardedVideo extends CustomEventRewardedVideo {
     protected void onInvalidate() {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "onInvalidate is called for Placement ID:" + mPlacementId);
 
-        sVungleRouter.removeRouterListener(mPlacementId);
+        sVungleRouter.removeRouterListener(mPlacementId, mVungleRewardedRouterListener);
         mVungleRewardedRouterListener = null;
     }
 
@@ -263,7 +263,7 @@ public class VungleRewardedVideo extends CustomEventRewardedVideo {
                 MoPubRewardedVideoManager.onRewardedVideoClosed(VungleRewardedVideo.class,
                         mPlacementId);
 
-                sVungleRouter.removeRouterListener(mPlacementId);
+                sVungleRouter.removeRouterListener(mPlacementId, this);
             }
         }
 
@@ -16,8 +16,7 @@ import com.vungle.warren.PlayAdCallback;
 import com.vungle.warren.Vungle;
 import com.vungle.warren.network.VungleApiClient;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
@@ -36,9 +35,9 @@ public class VungleRouter {
         INITIALIZED
     }
 
-    private static SDKInitState sInitState = SDKInitState.NOTINITIALIZED;
-    private static Map<String, VungleRouterListener> sVungleRouterListeners = new HashMap<>();
-    private static Map<String, VungleRouterListener> sWaitingList = new HashMap<>();
+    private static volatile SDKInitState sInitState = SDKInitState.NOTINITIALIZED;
+    private static final VungleRouterListenerRegistry sListenerRegistry =
+            new VungleRouterListenerRegistry();
 
     private static final LifecycleListener sLifecycleListener = new BaseLifecycleListener() {
         @Override
@@ -126,13 +125,19 @@ public class VungleRouter {
                 break;
 
             case INITIALIZING:
-                sWaitingList.put(placementId, routerListener);
+                if (!sListenerRegistry.addToWaitingList(placementId, routerListener)) {
+                    MoPubLog.log(CUSTOM, ADAPTER_NAME, "Too many loads are waiting for " +
+                            "initialization. Failing the load for Placement ID: " + placementId);
+                    routerListener.onAdAvailabilityUpdate(placementId, false);
+                } else if (sInitState == SDKInitState.INITIALIZED) {
+                    // Initialization finished while the load was being queued.
+                    clearWaitingList();
+                }
                 break;
 
             case INITIALIZED:
                 if (isValidPlacement(placementId)) {
-                    addRouterListener(placementId, routerListener);
-                    Vungle.loadAd(placementId, loadAdCallback);
+                    requestAd(placementId, routerListener);
                 } else {
                     routerListener.onUnableToPlayAd(placementId, "Invalid/Inactive Placement Id");
                 }
@@ -140,20 +145,28 @@ public class VungleRouter {
         }
     }
 
-    private void addRouterListener(String placementId, VungleRouterListener routerListener) {
-        sVungleRouterListeners.put(placementId, routerListener);
+    private void requestAd(String placementId, VungleRouterListener routerListener) {
+        // Loads for a placement that already has a request in flight share its result
+        if (sListenerRegistry.joinLoad(placementId, routerListener)) {
+            Vungle.loadAd(placementId, loadAdCallback);
+        } else {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Joining the in-flight load for Placement ID: " +
+                    placementId);
+        }
     }
 
-    public void removeRouterListener(String placementId) {
-        sVungleRouterListeners.remove(placementId);
+    public void removeRouterListener(String placementId, VungleRouterListener routerListener) {
+        sListenerRegistry.removeListener(placementId, routerListener);
     }
 
     public boolean isAdPlayableForPlacement(String placementId) {
         return Vungle.canPlayAd(placementId);
     }
 
-    public void playAdForPlacement(String placementId, AdConfig adConfig) {
+    public void playAdForPlacement(String placementId, AdConfig adConfig,
+                                   VungleRouterListener routerListener) {
         if (Vungle.canPlayAd(placementId)) {
+            sListenerRegistry.setPlayingListener(placementId, routerListener);
             Vungle.playAd(placementId, adConfig, playAdCallback);
         } else {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "There should not be this case. playAdForPlacement is called " +
@@ -183,12 +196,10 @@ public class VungleRouter {
     }
 
     private void clearWaitingList() {
-        for (Map.Entry<String, VungleRouterListener> entry : sWaitingList.entrySet()) {
-            Vungle.loadAd(entry.getKey(), loadAdCallback);
-            sVungleRouterListeners.put(entry.getKey(), entry.getValue());
+        VungleRouterListenerRegistry.PendingLoad pendingLoad;
+        while ((pendingLoad = sListenerRegistry.pollWaitingList()) != null) {
+            requestAd(pendingLoad.placementId, pendingLoad.listener);
         }
-
-        sWaitingList.clear();
     }
 
     private final PlayAdCallback playAdCallback = new PlayAdCallback() {
@@ -196,20 +207,21 @@ public class VungleRouter {
         public void onAdEnd(String id, boolean completed, boolean isCTAClicked) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "onAdEnd - Placement ID: " + id);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
+            VungleRouterListener targetListener = sListenerRegistry.getPlayingListener(id);
             if (targetListener != null) {
                 targetListener.onAdEnd(id, completed, isCTAClicked);
             } else {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "onAdEnd - VungleRouterListener is not found for " +
                         "Placement ID: " + id);
             }
+            sListenerRegistry.clearPlayingListener(id);
         }
 
         @Override
         public void onAdStart(String id) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "onAdStart - Placement ID: " + id);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
+            VungleRouterListener targetListener = sListenerRegistry.getPlayingListener(id);
             if (targetListener != null) {
                 targetListener.onAdStart(id);
             } else {
@@ -222,13 +234,14 @@ public class VungleRouter {
         public void onError(String id, Throwable error) {
             MoPubLog.log(CUSTOM_WITH_THROWABLE, "onUnableToPlayAd - Placement ID: " + id, error);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
+            VungleRouterListener targetListener = sListenerRegistry.getPlayingListener(id);
             if (targetListener != null) {
                 targetListener.onUnableToPlayAd(id, error.getLocalizedMessage());
             } else {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "onUnableToPlayAd - VungleRouterListener is not found " +
                         "for Placement ID: " + id);
             }
+            sListenerRegistry.clearPlayingListener(id);
         }
     };
 
@@ -247,9 +260,12 @@ public class VungleRouter {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "onAdAvailabilityUpdate - Placement ID: " +
                     placementReferenceId);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(placementReferenceId);
-            if (targetListener != null) {
-                targetListener.onAdAvailabilityUpdate(placementReferenceId, isAdAvailable);
+            final List<VungleRouterListener> waitingListeners =
+                    sListenerRegistry.completeLoad(placementReferenceId);
+            if (!waitingListeners.isEmpty()) {
+                for (VungleRouterListener targetListener : waitingListeners) {
+                    targetListener.onAdAvailabilityUpdate(placementReferenceId, isAdAvailable);
+                }
             } else {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "onAdAvailabilityUpdate - VungleRouterListener is not " +
                         "found for Placement ID: " + placementReferenceId);
@@ -0,0 +1,171 @@
+package com.mopub.mobileads;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe registry of {@link VungleRouterListener}s keyed by placement ID. Concurrent loads for
+ * the same placement are coalesced into a single in-flight load whose result is shared by every
+ * waiting listener, and playback callbacks go to the listener that started playback. Loads
+ * requested while the Vungle SDK is initializing are kept in a bounded waiting list that is
+ * replayed once initialization succeeds.
+ */
+class VungleRouterListenerRegistry {
+    private static final int MAX_WAITING_LIST_SIZE = 64;
+
+    @NonNull
+    private final ConcurrentHashMap<String, VungleRouterListener> mPlayingListeners =
+            new ConcurrentHashMap<>();
+    @NonNull
+    private final ConcurrentHashMap<String, InFlightLoad> mInFlightLoads =
+            new ConcurrentHashMap<>();
+    @NonNull
+    private final ConcurrentLinkedQueue<PendingLoad> mWaitingList = new ConcurrentLinkedQueue<>();
+    @NonNull
+    private final AtomicInteger mWaitingListSize = new AtomicInteger(0);
+
+    void removeListener(@NonNull final String placementId,
+                        @Nullable final VungleRouterListener listener) {
+        Preconditions.checkNotNull(placementId);
+
+        if (listener == null) {
+            return;
+        }
+
+        mPlayingListeners.remove(placementId, listener);
+
+        final InFlightLoad inFlightLoad = mInFlightLoads.get(placementId);
+        if (inFlightLoad != null) {
+            inFlightLoad.leave(listener);
+        }
+    }
+
+    /**
+     * Adds the listener as a waiter on the placement's in-flight load, starting one if there is
+     * none.
+     *
+     * @return true if a new load was started and the caller should request an ad from Vungle,
+     * false if the listener joined a load that is already in flight.
+     */
+    boolean joinLoad(@NonNull final String placementId,
+                     @NonNull final VungleRouterListener listener) {
+        Preconditions.checkNotNull(placementId);
+        Preconditions.checkNotNull(listener);
+
+        while (true) {
+            final InFlightLoad inFlightLoad = mInFlightLoads.get(placementId);
+            if (inFlightLoad == null) {
+                final InFlightLoad newLoad = new InFlightLoad();
+                newLoad.join(listener);
+                if (mInFlightLoads.putIfAbsent(placementId, newLoad) == null) {
+                    return true;
+                }
+            } else if (inFlightLoad.join(listener)) {
+                return false;
+            }
+            // The in-flight load completed concurrently. Try again.
+        }
+    }
+
+    /**
+     * Completes the placement's in-flight load.
+     *
+     * @return the listeners that were waiting on the load.
+     */
+    @NonNull
+    List<VungleRouterListener> completeLoad(@NonNull final String placementId) {
+        final InFlightLoad inFlightLoad = mInFlightLoads.remove(placementId);
+        if (inFlightLoad == null) {
+            return Collections.emptyList();
+        }
+        return inFlightLoad.complete();
+    }
+
+    void setPlayingListener(@NonNull final String placementId,
+                            @NonNull final VungleRouterListener listener) {
+        mPlayingListeners.put(placementId, listener);
+    }
+
+    /**
+     * @return the listener that started playback for the placement, if any. Playback callbacks
+     * go to this listener only, so other listeners waiting on the same placement are unaffected.
+     */
+    @Nullable
+    VungleRouterListener getPlayingListener(@NonNull final String placementId) {
+        return mPlayingListeners.get(placementId);
+    }
+
+    void clearPlayingListener(@NonNull final String placementId) {
+        mPlayingListeners.remove(placementId);
+    }
+
+    /**
+     * @return false if the waiting list is full and the load should be failed.
+     */
+    boolean addToWaitingList(@NonNull final String placementId,
+                             @NonNull final VungleRouterListener listener) {
+        if (mWaitingListSize.incrementAndGet() > MAX_WAITING_LIST_SIZE) {
+            mWaitingListSize.decrementAndGet();
+            return false;
+        }
+        mWaitingList.offer(new PendingLoad(placementId, listener));
+        return true;
+    }
+
+    @Nullable
+    PendingLoad pollWaitingList() {
+        final PendingLoad pendingLoad = mWaitingList.poll();
+        if (pendingLoad != null) {
+            mWaitingListSize.decrementAndGet();
+        }
+        return pendingLoad;
+    }
+
+    private static class InFlightLoad {
+        @NonNull
+        private final List<VungleRouterListener> mWaiters = new ArrayList<>(2);
+        private boolean mCompleted;
+
+        synchronized boolean join(@NonNull final VungleRouterListener listener) {
+            if (mCompleted) {
+                return false;
+            }
+            if (!mWaiters.contains(listener)) {
+                mWaiters.add(listener);
+            }
+            return true;
+        }
+
+        synchronized void leave(@NonNull final VungleRouterListener listener) {
+            mWaiters.remove(listener);
+        }
+
+        @NonNull
+        synchronized List<VungleRouterListener> complete() {
+            mCompleted = true;
+            return new ArrayList<>(mWaiters);
+        }
+    }
+
+    static class PendingLoad {
+        @NonNull
+        final String placementId;
+        @NonNull
+        final VungleRouterListener listener;
+
+        PendingLoad(@NonNull final String placementId,
+                    @NonNull final VungleRouterListener listener) {
+            this.placementId = placementId;
+            this.listener = listener;
+        }
+    }
+}
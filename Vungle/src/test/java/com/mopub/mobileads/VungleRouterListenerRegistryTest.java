@@ -0,0 +1,224 @@
+package com.mopub.mobileads;
+
+import android.support.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VungleRouterListenerRegistryTest {
+    private static final String PLACEMENT_ID = "placement";
+    private static final int THREAD_COUNT = 16;
+    private static final int LOADS_PER_THREAD = 500;
+    private static final int PLACEMENT_COUNT = 4;
+
+    private VungleRouterListenerRegistry subject;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        subject = new VungleRouterListenerRegistry();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @Test
+    public void joinLoad_withConcurrentLoadsForSamePlacement_shouldStartOneLoad() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger startedLoads = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    if (subject.joinLoad(PLACEMENT_ID, new TestListener())) {
+                        startedLoads.incrementAndGet();
+                    }
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        awaitAll(futures);
+
+        assertEquals(1, startedLoads.get());
+        assertEquals(THREAD_COUNT, subject.completeLoad(PLACEMENT_ID).size());
+        assertTrue(subject.completeLoad(PLACEMENT_ID).isEmpty());
+    }
+
+    @Test
+    public void joinLoad_withConcurrentJoinsAndCompletions_shouldNotifyEveryListenerExactlyOnce()
+            throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final Set<VungleRouterListener> joined =
+                Collections.synchronizedSet(new HashSet<VungleRouterListener>());
+        final Set<VungleRouterListener> notified =
+                Collections.synchronizedSet(new HashSet<VungleRouterListener>());
+        final AtomicInteger duplicateNotifications = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final boolean completes = i % 4 == 0;
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    for (int j = 0; j < LOADS_PER_THREAD; j++) {
+                        final String placementId = PLACEMENT_ID + (j % PLACEMENT_COUNT);
+                        if (completes) {
+                            collect(subject.completeLoad(placementId));
+                        } else {
+                            final TestListener listener = new TestListener();
+                            joined.add(listener);
+                            subject.joinLoad(placementId, listener);
+                        }
+                    }
+                    return null;
+                }
+
+                private void collect(@NonNull final List<VungleRouterListener> listeners) {
+                    for (final VungleRouterListener listener : listeners) {
+                        if (!notified.add(listener)) {
+                            duplicateNotifications.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        awaitAll(futures);
+
+        for (int i = 0; i < PLACEMENT_COUNT; i++) {
+            for (final VungleRouterListener listener : subject.completeLoad(PLACEMENT_ID + i)) {
+                if (!notified.add(listener)) {
+                    duplicateNotifications.incrementAndGet();
+                }
+            }
+        }
+
+        assertEquals(0, duplicateNotifications.get());
+        assertEquals(joined, notified);
+    }
+
+    @Test
+    public void removeListener_withConcurrentRemovals_shouldNotNotifyRemovedListeners()
+            throws Exception {
+        final List<TestListener> listeners = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT * 2; i++) {
+            final TestListener listener = new TestListener();
+            listeners.add(listener);
+            subject.joinLoad(PLACEMENT_ID, listener);
+        }
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final TestListener listener = listeners.get(i);
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    subject.removeListener(PLACEMENT_ID, listener);
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        awaitAll(futures);
+
+        final List<VungleRouterListener> remaining = subject.completeLoad(PLACEMENT_ID);
+        assertEquals(listeners.subList(THREAD_COUNT, listeners.size()), remaining);
+    }
+
+    @Test
+    public void addToWaitingList_withConcurrentAdds_shouldNotExceedBound() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger accepted = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    for (int j = 0; j < LOADS_PER_THREAD; j++) {
+                        if (subject.addToWaitingList(PLACEMENT_ID, new TestListener())) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        awaitAll(futures);
+
+        int polled = 0;
+        while (subject.pollWaitingList() != null) {
+            polled++;
+        }
+        assertEquals(accepted.get(), polled);
+        assertTrue(polled <= 64);
+        assertTrue(subject.addToWaitingList(PLACEMENT_ID, new TestListener()));
+    }
+
+    @Test
+    public void getPlayingListener_shouldOnlyReturnListenerThatStartedPlayback() {
+        final TestListener waiting = new TestListener();
+        final TestListener playing = new TestListener();
+        subject.joinLoad(PLACEMENT_ID, waiting);
+        subject.setPlayingListener(PLACEMENT_ID, playing);
+
+        subject.removeListener(PLACEMENT_ID, waiting);
+        assertSame(playing, subject.getPlayingListener(PLACEMENT_ID));
+
+        subject.clearPlayingListener(PLACEMENT_ID);
+        assertNull(subject.getPlayingListener(PLACEMENT_ID));
+        assertFalse(subject.completeLoad(PLACEMENT_ID).contains(waiting));
+    }
+
+    private void awaitAll(@NonNull final List<Future<?>> futures) throws Exception {
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private static class TestListener implements VungleRouterListener {
+        @Override
+        public void onAdEnd(@NonNull String placementId, boolean wasSuccessfulView,
+                            boolean wasCallToActionClicked) {
+        }
+
+        @Override
+        public void onAdStart(@NonNull String placementId) {
+        }
+
+        @Override
+        public void onUnableToPlayAd(@NonNull String placementId, String reason) {
+        }
+
+        @Override
+        public void onAdAvailabilityUpdate(@NonNull String placementId, boolean isAdAvailable) {
+        }
+    }
+}